@@ -3,11 +3,17 @@ package org.example.boardback;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class BoardBackApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(BoardBackApplication.class, args);
+        SpringApplication application = new SpringApplication(BoardBackApplication.class);
+        // 기본값 (application.properties 등에서 덮어쓸 수 있음)
+        // - OSIV 끔: 요청 전체에 DB 커넥션을 잡지 않고, 응답 직렬화 중 지연 로딩 쿼리(N+1)가 나가지 않도록
+        application.setDefaultProperties(Map.of("spring.jpa.open-in-view", "false"));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,23 @@
+package org.example.boardback.common.apis.admin;
+
+import org.example.boardback.common.apis.ApiBase;
+
+public class AdminApi {
+    private AdminApi() {}
+
+    // ==================================================
+    // Admin (ROLE_ADMIN 전용)
+    // ==================================================
+    public static final String ROOT = ApiBase.BASE + "/admin";
+
+    // + 게시글 전체 내보내기 (NDJSON 스트리밍)
+    //   : GET /admin/boards/export
+    //   > 한 줄에 게시글 1건(JSON), 모든 게시글을 id 순으로 전송
+    public static final String BOARD_EXPORT = "/boards/export";
+
+    // + 게시글 대량 가져오기 (NDJSON / CSV 스트리밍 업로드)
+    //   : POST /admin/boards/import (Content-Type: application/x-ndjson 또는 text/csv)
+    //   > curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @boards.ndjson ...
+    //   > 내보내기(export) 결과 파일을 그대로 가져올 수 있음 (id / 카운터 / 고정 여부는 무시)
+    public static final String BOARD_IMPORT = "/boards/import";
+}
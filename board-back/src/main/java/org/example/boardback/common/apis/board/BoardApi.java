@@ -25,8 +25,15 @@ public class BoardApi {
     // + 페이징 조회
     //   : GET /boards/page?page=0&size=10&sort=createdAt,desc
     //   > 첫 페이지에 10개의 게시물을 최신순(작성순+내림차순)으로 조회
+    // + 커서(키셋) 페이징
+    //   : GET /boards/page?size=10&sort=createdAt,desc&cursor=
+    //   > 응답의 nextCursor 를 다음 요청의 cursor 로 전달 (COUNT 생략, 깊은 페이지도 동일한 비용)
     public static final String PAGE = "/page";
 
+    // + 인기 글 (조회 / 좋아요 / 댓글 + 시간 감쇠)
+    //   : GET /boards/trending?categoryId=1&size=10 (categoryId 생략 시 전체)
+    public static final String TRENDING = "/trending";
+
     // + 내가 쓴 글
     public static final String MY_BOARDS = "/me";
 
@@ -18,6 +18,7 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "C005", "데이터를 찾을 수 없습니다.", "Entity not found"),
     DB_CONSTRAINT(HttpStatus.CONFLICT, "C006", "데이터 제약 조건 위반입니다.", "Database constraint violation"),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C007", "서버 내부 오류가 발생했습니다.", "Internal server error"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C008", "다른 요청이 먼저 데이터를 수정했습니다. 새로고침 후 다시 시도해 주세요.", "Optimistic lock conflict"),
 
     // ===========================
     // Authentication / Token (Axxx)
@@ -33,7 +34,16 @@ public enum ErrorCode {
     // User (Uxxx)
     // ===========================
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다.", "User not found"),
-    DUPLICATE_USER(HttpStatus.CONFLICT, "U002", "이미 존재하는 사용자입니다.", "Duplicate user");
+    DUPLICATE_USER(HttpStatus.CONFLICT, "U002", "이미 존재하는 사용자입니다.", "Duplicate user"),
+
+    // ===========================
+    // Board / Comment (Bxxx)
+    // ===========================
+    BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "B001", "게시글을 찾을 수 없습니다.", "Board not found"),
+    CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "B002", "카테고리를 찾을 수 없습니다.", "Board category not found"),
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "B003", "댓글을 찾을 수 없습니다.", "Comment not found"),
+    BOARD_IMPORT_IN_PROGRESS(HttpStatus.CONFLICT, "B004", "이미 게시글 가져오기가 진행 중입니다.", "Board import already running"),
+    DRAFT_NOT_FOUND(HttpStatus.NOT_FOUND, "B005", "임시 저장 글을 찾을 수 없습니다.", "Board draft not found");
 
     private final HttpStatus status;
     private final String code;
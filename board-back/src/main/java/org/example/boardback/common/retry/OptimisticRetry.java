@@ -0,0 +1,27 @@
+package org.example.boardback.common.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 메서드 전체를 새 트랜잭션으로 재실행
+ * - 트랜잭션 바깥에서 감싸므로 @Transactional 메서드에 함께 붙여도 재시도마다 엔티티를 다시 읽음
+ * - maxAttempts 회 모두 실패하면 마지막 예외를 그대로 던짐 → GlobalExceptionHandler 에서 409
+ * - 재실행해도 같은 결과가 되는(멱등) 작업에만 사용 (외부 호출 / 파일 저장 등 부수 효과가 있는 메서드 X)
+ * - 순서와 관계없이 결과가 같은 변경(고정 / 고정 해제)에만 사용
+ *   : 글 / 임시글 수정처럼 내용을 덮어쓰는 변경은 재시도하면 상대의 수정이 사라지므로 요청 version 비교 후 409
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticRetry {
+
+    /** 최초 실행 포함 최대 시도 횟수 */
+    int maxAttempts() default 3;
+
+    /** 첫 재시도 대기(ms), 이후 2배씩 증가 + 0 ~ backoffMs 지터 */
+    long backoffMs() default 30;
+}
@@ -0,0 +1,59 @@
+package org.example.boardback.common.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @OptimisticRetry 처리
+ * - 트랜잭션 어드바이스(LOWEST_PRECEDENCE)보다 먼저 실행 → 커밋 시점 flush 에서 난 충돌까지 잡고,
+ *   롤백된 트랜잭션 밖에서 메서드를 처음부터 다시 호출
+ * - 행 락을 요청 처리 동안 잡지 않고, 실제로 충돌한 경우에만 짧게 대기 후 재시도
+ * - 이미 트랜잭션 안에서 호출되면(바깥 트랜잭션에 참여) 재시도해도 같은 영속성 컨텍스트라 의미가 없으므로 바깥에 맡김
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticRetryAspect {
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticRetry retry) throws Throwable {
+        int maxAttempts = Math.max(1, retry.maxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts
+                        || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    log.warn("[OptimisticRetry] {} 충돌 - 재시도 중단 (attempt={})", joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+
+                log.debug("[OptimisticRetry] {} 충돌 - 재시도 (attempt={})", joinPoint.getSignature().toShortString(), attempt);
+                backoff(retry.backoffMs(), attempt, e);
+            }
+        }
+    }
+
+    private static void backoff(long baseMs, int attempt, OptimisticLockingFailureException cause) {
+        if (baseMs <= 0) return;
+
+        long delay = (baseMs << (attempt - 1)) + ThreadLocalRandom.current().nextLong(baseMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.boardback.common.utils;
+
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징용 커서 인코딩/디코딩 유틸
+ * - 커서 = 마지막으로 내려준 게시글의 (created_at, id)
+ * - 클라이언트에는 의미를 알 수 없는 불투명(opaque) 문자열로 노출 (Base64 URL-safe)
+ */
+public class CursorUtil {
+
+    private CursorUtil() {}
+
+    private static final String DELIMITER = "|";
+
+    public record Cursor(LocalDateTime createdAt, Long id) {}
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) return null;
+
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 잘못된 커서는 클라이언트 입력 오류(C001)로 처리 */
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.parseLong(raw.substring(idx + 1));
+
+            return new Cursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서 값: " + cursor);
+        }
+    }
+}
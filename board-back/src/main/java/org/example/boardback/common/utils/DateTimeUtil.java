@@ -86,7 +86,16 @@ public class DateTimeUtil {
     }
 
     // ------------------------------------------------------------------------------------
-    // 6. 지금 시간 UTC/KST 가져오기
+    // 6. UTC(LocalDateTime) → Instant (응답 DTO 변환용)
+    // ------------------------------------------------------------------------------------
+    public static Instant toInstant(LocalDateTime utcLocalDateTime) {
+        if (utcLocalDateTime == null) return null;
+
+        return utcLocalDateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    // ------------------------------------------------------------------------------------
+    // 7. 지금 시간 UTC/KST 가져오기
     // ------------------------------------------------------------------------------------
     public static LocalDateTime nowUtc() {
         return LocalDateTime.now(ZONE_UTC);
@@ -0,0 +1,26 @@
+package org.example.boardback.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 조회수 중복 제거(dedup) 설정
+ *
+ * app.board.view.dedup-enabled=true
+ * app.board.view.dedup-window=30m
+ * app.board.view.category-windows.1=24h   # 카테고리 id 별 윈도우 (0s 이면 해당 카테고리는 중복 제거 X)
+ */
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.board.view")
+public class BoardViewProperties {
+    private boolean dedupEnabled = true;
+    private Duration dedupWindow = Duration.ofMinutes(30);
+    private Map<Long, Duration> categoryWindows = new HashMap<>();
+}
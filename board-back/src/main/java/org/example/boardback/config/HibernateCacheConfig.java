@@ -0,0 +1,76 @@
+package org.example.boardback.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 (JCache + Caffeine, 노드 로컬)
+ * - 대상: 거의 변하지 않는 참조 엔티티 (BoardCategory, Role) 만 — 엔티티에 @Cache(region = ...) 로 지정
+ * - 영역은 여기서 크기 / TTL 을 정해 미리 만들고, 선언되지 않은 영역은 기동 시 실패 (missing_cache_strategy=fail)
+ * - 노드 간 무효화가 없으므로 다른 노드 / DB 직접 변경은 app.jpa.cache.ttl(기본 10m) 이내에 반영
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String BOARD_CATEGORY_REGION = "boardCategory";
+    public static final String ROLE_REGION = "role";
+
+    @Value("${app.jpa.cache.max-size:1000}")
+    private long maxSize;
+
+    @Value("${app.jpa.cache.ttl:10m}")
+    private Duration ttl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching
+                .getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        createIfAbsent(cacheManager, BOARD_CATEGORY_REGION, maxSize, ttl);
+        createIfAbsent(cacheManager, ROLE_REGION, maxSize, ttl);
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, maxSize, ttl);
+        // 쿼리 캐시 유효성 판단용 테이블별 갱신 시각 → 만료되면 안 됨 (테이블 수만큼만 쌓임)
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 10_000, null);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, String region, long maximumSize, Duration expireAfterWrite) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+
+        cacheManager.createCache(region, configuration);
+    }
+}
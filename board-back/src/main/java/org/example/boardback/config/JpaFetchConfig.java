@@ -0,0 +1,24 @@
+package org.example.boardback.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지연 로딩 기본 fetch 설정
+ * - 조회 용도별 fetch plan 은 각 Repository 의 fetch join / @EntityGraph 로 지정하고,
+ *   그 밖에서 지연 로딩되는 연관관계 / 컬렉션은 IN 절로 app.jpa.batch-fetch-size(기본 100) 건씩 묶어서 조회
+ * - OSIV 는 꺼져 있음 (BoardBackApplication 기본 설정) → 트랜잭션 밖에서는 지연 로딩 불가, DTO 변환은 서비스 안에서
+ */
+@Configuration
+public class JpaFetchConfig {
+
+    @Value("${app.jpa.batch-fetch-size:100}")
+    private int batchFetchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer fetchHibernateCustomizer() {
+        return properties -> properties.putIfAbsent("hibernate.default_batch_fetch_size", batchFetchSize);
+    }
+}
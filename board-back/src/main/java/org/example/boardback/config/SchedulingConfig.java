@@ -0,0 +1,42 @@
+package org.example.boardback.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 배치 작업(카운터 보정 등) 활성화
+ * - 기본 스케줄러는 스레드 1개 → 한 작업이 길어지면 조회수 / 좋아요 반영(flush)까지 밀림
+ * - app.scheduling.pool-size 개 스레드로 실행 (기본 4)
+ * - 오래 걸리는 작업(보정 / 정리 / 백필 등)은 스케줄러 스레드에서 직접 돌리지 않고 BatchJobRunner 로 넘김
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    @Value("${app.scheduling.pool-size:4}")
+    private int poolSize;
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("board-scheduler-");
+        taskScheduler.setErrorHandler(e -> log.error("[Scheduler] 예약 작업 실패", e));
+        taskScheduler.initialize();
+
+        registrar.setTaskScheduler(taskScheduler);
+    }
+
+    @Override
+    public void destroy() {
+        taskScheduler.shutdown();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.boardback.config;
+
+import org.example.boardback.entity.base.id.SnowflakeIdGenerator;
+import org.example.boardback.entity.base.id.SnowflakeIdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @SnowflakeId 엔티티 설정
+ * - app.id.worker-id: 노드별로 달라야 함 (0 ~ 1023, 기본 0)
+ * - app.jpa.batch-size: 애플리케이션에서 id 를 정하는 엔티티의 INSERT 를 묶어서 전송
+ *   (IDENTITY 엔티티는 이 설정과 무관하게 행마다 INSERT)
+ */
+@Configuration
+public class SnowflakeIdConfig {
+
+    @Value("${app.id.worker-id:0}")
+    private int workerId;
+
+    @Value("${app.jpa.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeIdHibernateCustomizer() {
+        if (workerId < 0 || workerId > SnowflakeIdGenerator.MAX_WORKER_ID) {
+            throw new IllegalStateException("app.id.worker-id 는 0 ~ " + SnowflakeIdGenerator.MAX_WORKER_ID + " 범위여야 합니다.");
+        }
+
+        return properties -> {
+            properties.put(SnowflakeIdentifierGenerator.WORKER_ID_SETTING, workerId);
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+        };
+    }
+}
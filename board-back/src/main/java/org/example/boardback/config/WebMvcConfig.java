@@ -1,15 +1,40 @@
 package org.example.boardback.config;
 
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.apis.board.BoardApi;
+import org.example.boardback.controller.board.BoardEtagInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final BoardEtagInterceptor boardEtagInterceptor;
+
+    // StreamingResponseBody(게시글 내보내기 등) 비동기 응답 제한 시간 (기본 1시간)
+    @Value("${app.web.async-timeout-ms:3600000}")
+    private long asyncTimeoutMs;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/favicon.ico")
                 .addResourceLocations("classpath:/static/");
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+
+    // 게시글 상세 / 목록 조건부 GET (대상 URL 패턴은 인터셉터에서 판별)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(boardEtagInterceptor)
+                .addPathPatterns(BoardApi.ROOT + "/**");
+    }
 }
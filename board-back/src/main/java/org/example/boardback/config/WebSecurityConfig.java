@@ -45,7 +45,7 @@ public class WebSecurityConfig {
     @Value("${cors.allowed-methods:GET,POST,PUT,PATCH,DELETE,OPTIONS}")
     private String allowedMethods;
 
-    @Value("${cors.exposed-headers:Authorization,Set-Cookie}")
+    @Value("${cors.exposed-headers:Authorization,Set-Cookie,ETag}")
     private String exposedHeaders;
 
     @Value("${security.h2-console:true}")
@@ -126,6 +126,9 @@ public class WebSecurityConfig {
                     .requestMatchers("/api/v1/auth/**", "/oauth2/**", "/login/oauth2/code/**", "/error").permitAll()         // 로그인, 회원가입 등 - 인증 서비스
                     .requestMatchers(HttpMethod.GET, "/api/v1/boards/**").permitAll() // 게시판 조회 기능
 
+                    // 관리자 전용 (게시글 내보내기 등)
+                    .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+
                     // 인증된 사용자만 사용 가능 (인가, 권한 X)
                     // : HttpMethod는 선택값, URL 경로는 필수
                     // .requestMatchers(HttpMethod.GET, "/api/v1/~~").authenticated()
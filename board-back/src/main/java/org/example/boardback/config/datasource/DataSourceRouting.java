@@ -0,0 +1,34 @@
+package org.example.boardback.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 DB 라우팅 힌트
+ * - 읽기 전용 트랜잭션이라도 primary 에서 읽어야 하는 구간을 지정 (예: 공유 캐시를 채우는 조회)
+ * - 레플리카가 설정되지 않은 환경에서는 아무 효과 없음
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private DataSourceRouting() {}
+
+    /** action 실행 동안 첫 커넥션 획득을 primary 로 고정 (이미 커넥션을 잡은 트랜잭션에는 영향 X) */
+    public static <T> T primary(Supplier<T> action) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+}
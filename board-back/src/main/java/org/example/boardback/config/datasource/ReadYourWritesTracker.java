@@ -0,0 +1,78 @@
+package org.example.boardback.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 read-your-writes 구간 관리
+ * - 쓰기 트랜잭션이 커밋되면 해당 사용자를 window 동안 "primary 에서 읽기" 대상으로 기록
+ *   (글 작성 직후 상세 / 내 글 목록 조회가 복제 지연으로 비어 보이는 문제 방지)
+ * - 같은 노드: 로컬 Caffeine, 다른 노드: Redis "db:primary-read:user:{id}" (PX = window)
+ * - Redis 장애 시에는 primary 로 보냄 (지연된 데이터를 보여주는 것보다 안전)
+ * - 비로그인 요청 / 스케줄러 등 사용자 컨텍스트가 없는 작업은 대상이 아님
+ */
+@Slf4j
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    static final String KEY_PREFIX = "db:primary-read:user:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+    private final Supplier<Long> currentUserId;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, Duration window, Supplier<Long> currentUserId) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.currentUserId = currentUserId;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /** 현재 사용자가 read-your-writes 구간 안에 있으면 true */
+    public boolean mustReadPrimary() {
+        Long userId = currentUserId.get();
+        if (userId == null) {
+            return false;
+        }
+        if (recentWriters.getIfPresent(userId) != null) {
+            return true;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (RuntimeException e) {
+            log.debug("read-your-writes 조회 실패 → primary 사용 (userId={})", userId, e);
+            return true;
+        }
+    }
+
+    /** 쓰기 트랜잭션(최상위) 커밋 성공 시 현재 사용자 기록 */
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+
+        Long userId = currentUserId.get();
+        if (userId == null) {
+            return;
+        }
+
+        recentWriters.put(userId, Boolean.TRUE);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", window);
+        } catch (RuntimeException e) {
+            log.warn("read-your-writes 기록 실패 (userId={}) - 이 노드에서만 적용", userId, e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.boardback.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.boardback.security.user.UserPrincipal;
+import org.example.boardback.security.util.PrincipalUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * primary / replica DataSource 구성 (app.datasource.replica.url 이 있을 때만 활성화)
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - replica: app.datasource.replica.url / username / password (+ app.datasource.replica.hikari.*)
+ *   username / password 를 생략하면 primary 와 동일
+ * - app.datasource.read-your-writes: 쓰기 커밋 후 해당 사용자의 읽기를 primary 로 보내는 시간 (기본 3s)
+ * - 설정이 없으면 Boot 기본 단일 DataSource 를 그대로 사용
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:}") String username,
+            @Value("${app.datasource.replica.password:}") String password
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .build();
+        if (!username.isBlank()) {
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+        }
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.datasource.read-your-writes:3s}") Duration window
+    ) {
+        return new ReadYourWritesTracker(redisTemplate, window, () -> {
+            UserPrincipal principal = PrincipalUtils.currentPrincipalOrNull();
+            return principal == null ? null : principal.getId();
+        });
+    }
+
+    /**
+     * JPA / JdbcTemplate 이 사용하는 DataSource
+     * - ReadYourWritesTracker 는 TransactionExecutionListener 빈으로 등록되어 Boot 가 트랜잭션 매니저에 연결함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesTracker));
+    }
+}
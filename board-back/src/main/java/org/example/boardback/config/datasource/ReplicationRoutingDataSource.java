@@ -0,0 +1,38 @@
+package org.example.boardback.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * primary / replica 라우팅 DataSource
+ * - @Transactional(readOnly = true) → replica, 그 외(쓰기 트랜잭션 / 트랜잭션 없음) → primary
+ * - 최근에 쓰기를 커밋한 사용자 / DataSourceRouting.primary(...) 구간은 읽기 전용이어도 primary
+ * - readOnly 플래그는 트랜잭션 시작 이후에 세팅되므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ *   (실제 커넥션을 첫 SQL 실행 시점에 가져와야 라우팅 키가 올바르게 계산됨)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || DataSourceRouting.isPrimaryForced()
+                || readYourWritesTracker.mustReadPrimary()) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+}
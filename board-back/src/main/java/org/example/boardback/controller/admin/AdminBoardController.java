@@ -0,0 +1,56 @@
+package org.example.boardback.controller.admin;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.apis.admin.AdminApi;
+import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.board.response.BoardImportResultDto;
+import org.example.boardback.service.board.BoardExportService;
+import org.example.boardback.service.board.BoardImportService;
+import org.example.boardback.service.board.bulk.BoardImportFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/*
+  관리자 전용 게시글 기능
+  : 전체 내보내기 (NDJSON 스트리밍) / 대량 가져오기 (NDJSON, CSV)
+ */
+@RestController
+@RequestMapping(AdminApi.ROOT)
+@RequiredArgsConstructor
+public class AdminBoardController {
+    private final BoardExportService boardExportService;
+    private final BoardImportService boardImportService;
+
+    @GetMapping(AdminApi.BOARD_EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportBoards() {
+        StreamingResponseBody body = boardExportService.exportBoards();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"boards.ndjson\"")
+                .body(body);
+    }
+
+    // 요청 본문을 @RequestBody 로 한 번에 받지 않고 InputStream 그대로 전달 (청크 단위로 읽으며 저장)
+    @PostMapping(
+            value = AdminApi.BOARD_IMPORT,
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"}
+    )
+    public ResponseEntity<ResponseDto<BoardImportResultDto>> importBoards(
+            HttpServletRequest httpRequest
+    ) throws IOException {
+        ResponseDto<BoardImportResultDto> data = boardImportService.importBoards(
+                httpRequest.getInputStream(),
+                BoardImportFormat.from(httpRequest.getContentType())
+        );
+        return ResponseEntity.ok(data);
+    }
+}
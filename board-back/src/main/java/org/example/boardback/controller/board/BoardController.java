@@ -1,5 +1,6 @@
 package org.example.boardback.controller.board;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.boardback.common.apis.ApiBase;
@@ -29,12 +30,14 @@ public class BoardController {
     // 1. 기본 CRUD
     // ============================================================
 
-    // 단일 조회
+    // 단일 조회 (BoardEtagInterceptor 가 ETag 계산 시 조회한 결과가 있으면 재사용)
     @GetMapping(BoardApi.BY_ID)
     public ResponseEntity<ResponseDto<BoardResponseDto>> getBoard(
-            @PathVariable String boardId
+            @PathVariable String boardId,
+            @RequestAttribute(name = BoardEtagInterceptor.BOARD_ATTRIBUTE, required = false)
+            ResponseDto<BoardResponseDto> prefetched
     ) {
-        ResponseDto<BoardResponseDto> data = boardService.getBoard(boardId);
+        ResponseDto<BoardResponseDto> data = prefetched != null ? prefetched : boardService.getBoard(boardId);
         return ResponseEntity.ok(data);
     }
 
@@ -101,6 +104,15 @@ public class BoardController {
         return ResponseEntity.ok(data);
     }
 
+    @GetMapping(BoardApi.TRENDING)
+    public ResponseEntity<ResponseDto<BoardListResponseDto>> getTrendingBoards(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        ResponseDto<BoardListResponseDto> data = boardService.getTrendingBoards(categoryId, size);
+        return ResponseEntity.ok(data);
+    }
+
 
     // ============================================================
     // 3. 조회수 증가
@@ -108,9 +120,11 @@ public class BoardController {
 
     @PostMapping(BoardApi.VIEW)
     public ResponseEntity<ResponseDto<?>> increaseViewCount(
-            @PathVariable Long boardId
+            @PathVariable Long boardId,
+            HttpServletRequest httpRequest
     ) {
-        ResponseDto<Void> result = boardService.increaseViewCount(boardId);
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP 가 반영됨
+        ResponseDto<Void> result = boardService.increaseViewCount(boardId, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(result);
     }
 
@@ -197,6 +211,15 @@ public class BoardController {
         return ResponseEntity.ok(data);
     }
 
+    @PutMapping(BoardApi.DRAFT_BY_ID)
+    public ResponseEntity<ResponseDto<DraftResponseDto>> updateDraft(
+            @PathVariable Long draftId,
+            @Valid @RequestBody DraftUpdateRequestDto request
+    ) {
+        ResponseDto<DraftResponseDto> data = boardDraftService.updateDraft(draftId, request);
+        return ResponseEntity.ok(data);
+    }
+
     @GetMapping(BoardApi.DRAFT_BY_ID)
     public ResponseEntity<ResponseDto<DraftResponseDto>> getDraft(
             @PathVariable Long draftId
@@ -218,6 +241,12 @@ public class BoardController {
     // 8. 통계 (Stats)
     // ============================================================
 
+    @GetMapping(BoardApi.COUNT_BY_CATEGORY)
+    public ResponseEntity<ResponseDto<BoardCategoryCountResponseDto>> categoryCounts() {
+        ResponseDto<BoardCategoryCountResponseDto> data = boardStatService.categoryCounts();
+        return ResponseEntity.ok(data);
+    }
+
     @GetMapping(BoardApi.STATS_DAILY)
     public ResponseEntity<ResponseDto<DailyBoardStatResponseDto>> dailyStats() {
         ResponseDto<DailyBoardStatResponseDto> data = boardStatService.dailyStats();
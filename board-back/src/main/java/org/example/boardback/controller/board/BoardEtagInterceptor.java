@@ -0,0 +1,95 @@
+package org.example.boardback.controller.board;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.apis.board.BoardApi;
+import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.board.response.BoardResponseDto;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.service.board.BoardService;
+import org.example.boardback.service.board.cache.BoardListVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * === BoardEtagInterceptor ===
+ * 게시글 상세 / 목록 조건부 GET (ETag / If-None-Match)
+ *
+ * - 컨트롤러 실행 전에 ETag 만 계산하여 If-None-Match 와 같으면 304 (엔티티 조회 / JSON 직렬화 X)
+ * - 다르면 ETag 헤더만 붙이고 컨트롤러로 진행
+ * - 상세: "b{id}-{updatedAt}-{조회수}-{좋아요}-{댓글}" (BoardDetailCache 값 기준 → 캐시 hit 이면 DB 접근 없음)
+ *   : 조회 결과는 요청 속성(BOARD_ATTRIBUTE)에 담아 컨트롤러가 재사용 → 캐시 miss 여도 요청당 1회만 로드
+ * - 페이지 / 카테고리 목록: "l{BoardListVersion}" (ETag 는 URL 별로 비교되므로 버전만으로 충분)
+ *   : 최근 변경 직후(레플리카 지연 창)에는 ETag 생략
+ * - Cache-Control: no-cache → 브라우저가 매번 재검증 요청
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardEtagInterceptor implements HandlerInterceptor {
+
+    /** preHandle 에서 조회한 상세 응답 (BoardController.getBoard 가 재사용) */
+    public static final String BOARD_ATTRIBUTE = BoardEtagInterceptor.class.getName() + ".board";
+
+    private static final String DETAIL_PATTERN = BoardApi.ROOT + BoardApi.BY_ID;
+    private static final String PAGE_PATTERN = BoardApi.ROOT + BoardApi.PAGE;
+    private static final String CATEGORY_PATTERN = BoardApi.ROOT + BoardApi.CATEGORY;
+
+    private final BoardService boardService;
+    private final BoardListVersion boardListVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) return true;
+
+        String pattern = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+
+        String etag;
+        if (DETAIL_PATTERN.equals(pattern)) {
+            etag = detailEtag(request);
+        } else if (PAGE_PATTERN.equals(pattern) || CATEGORY_PATTERN.equals(pattern)) {
+            String version = boardListVersion.current();
+            etag = version == null ? null : "\"l" + version + "\"";
+        } else {
+            return true;
+        }
+
+        if (etag == null) return true;
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // 일치하면 304 + ETag 설정, 아니면 ETag 헤더만 설정
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    private String detailEtag(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null) return null;
+
+        ResponseDto<BoardResponseDto> response;
+        try {
+            // 컨트롤러와 동일한 조회 경로 (캐시 + 미반영 조회수) → 결과를 컨트롤러가 그대로 응답
+            response = boardService.getBoard(variables.get("boardId"));
+        } catch (BusinessException e) {
+            // 잘못된 id / 없는 글: 컨트롤러에서 동일한 오류 응답
+            return null;
+        }
+        BoardResponseDto board = response.getData();
+        if (board == null) return null;
+
+        request.setAttribute(BOARD_ATTRIBUTE, response);
+
+        return "\"b" + board.id()
+                + "-" + (board.updatedAt() == null ? 0 : board.updatedAt().toEpochMilli())
+                + "-" + board.viewCount()
+                + "-" + board.likeCount()
+                + "-" + board.commentCount() + "\"";
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.boardback.controller.comment;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.apis.board.BoardCommentApi;
+import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.comment.request.CommentCreateRequestDto;
+import org.example.boardback.dto.comment.response.CommentResponseDto;
+import org.example.boardback.service.comment.CommentService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/*
+  게시글 댓글 CRUD
+  : 작성/삭제 시 게시글의 comment_count 카운터 동시 갱신
+ */
+@RestController
+@RequestMapping(BoardCommentApi.ROOT)
+@RequiredArgsConstructor
+public class CommentController {
+    private final CommentService commentService;
+
+    @GetMapping
+    public ResponseEntity<ResponseDto<List<CommentResponseDto>>> getComments(
+            @PathVariable Long boardId
+    ) {
+        ResponseDto<List<CommentResponseDto>> data = commentService.getComments(boardId);
+        return ResponseEntity.ok(data);
+    }
+
+    @PostMapping
+    public ResponseEntity<ResponseDto<CommentResponseDto>> createComment(
+            @PathVariable Long boardId,
+            @Valid @RequestBody CommentCreateRequestDto request
+    ) {
+        ResponseDto<CommentResponseDto> data = commentService.createComment(boardId, request);
+        return ResponseEntity.ok(data);
+    }
+
+    @PutMapping(BoardCommentApi.COMMENTS_BY_ID)
+    public ResponseEntity<ResponseDto<CommentResponseDto>> updateComment(
+            @PathVariable Long boardId,
+            @PathVariable Long commentId,
+            @Valid @RequestBody CommentCreateRequestDto request
+    ) {
+        ResponseDto<CommentResponseDto> data = commentService.updateComment(boardId, commentId, request);
+        return ResponseEntity.ok(data);
+    }
+
+    @DeleteMapping(BoardCommentApi.COMMENTS_BY_ID)
+    public ResponseEntity<ResponseDto<?>> deleteComment(
+            @PathVariable Long boardId,
+            @PathVariable Long commentId
+    ) {
+        ResponseDto<Void> result = commentService.deleteComment(boardId, commentId);
+        return ResponseEntity.ok(result);
+    }
+}
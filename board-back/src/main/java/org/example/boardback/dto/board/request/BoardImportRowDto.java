@@ -0,0 +1,20 @@
+package org.example.boardback.dto.board.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.Instant;
+
+/**
+ * 게시글 가져오기 1행 (NDJSON 1줄 / CSV 1레코드)
+ * - viewCount / createdAt 은 선택 (없으면 0 / 가져온 시각)
+ * - 내보내기(BoardExportDto) 형식의 나머지 필드는 무시
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BoardImportRowDto(
+        String title,
+        String content,
+        Long writerId,
+        Long categoryId,
+        Long viewCount,
+        Instant createdAt
+) {}
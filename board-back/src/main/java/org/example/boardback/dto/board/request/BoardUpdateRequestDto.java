@@ -5,6 +5,7 @@ import java.util.List;
 
 /**
  * 게시글 수정 요청
+ * - version: 수정 폼을 불러올 때 받은 BoardResponseDto.version (다르면 409 C008)
  */
 public record BoardUpdateRequestDto(
         @NotBlank(message = "제목을 입력하세요.")
@@ -20,5 +21,8 @@ public record BoardUpdateRequestDto(
         // 파일 관련 변경(프론트: 새로 업로드된 fileIds + 삭제할 fileIds 등)
         List<Long> keepFileIds,
         List<Long> deleteFileIds,
-        List<Long> addFileIds
+        List<Long> addFileIds,
+
+        @NotNull(message = "버전 정보가 필요합니다.")
+        Long version
 ) { }
\ No newline at end of file
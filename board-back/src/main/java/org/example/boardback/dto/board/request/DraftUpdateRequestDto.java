@@ -0,0 +1,17 @@
+package org.example.boardback.dto.board.request;
+
+import jakarta.validation.constraints.*;
+
+/**
+ * Draft 수정(자동 저장) 요청
+ * - version: 마지막으로 받은 DraftResponseDto.version (다르면 409 C008)
+ */
+public record DraftUpdateRequestDto(
+        @Size(max = 150, message = "제목은 최대 150자입니다.")
+        String title,
+
+        String content,
+
+        @NotNull(message = "버전 정보가 필요합니다.")
+        Long version
+) { }
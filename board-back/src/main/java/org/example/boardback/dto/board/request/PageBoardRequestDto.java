@@ -4,6 +4,10 @@ import jakarta.validation.constraints.*;
 
 /**
  * 페이징 조회 요청
+ * - cursor 가 없으면 OFFSET 페이징(page/size/sort), sort 생략 시 createdAt,desc
+ * - cursor 가 있으면 키셋(커서) 페이징: created_at desc, id desc 고정
+ *   (첫 페이지는 cursor= 빈 값으로 요청, 이후 응답의 nextCursor 를 그대로 전달)
+ *   : page 는 무시, sort 는 생략하거나 createdAt,desc 만 허용 (다른 정렬은 400)
  */
 public record PageBoardRequestDto(
         @Min(value = 0, message = "page는 0 이상이어야 합니다.")
@@ -11,7 +15,16 @@ public record PageBoardRequestDto(
         @Min(value = 1, message = "size는 1 이상이어야 합니다.")
         @Max(value = 200, message = "size는 최대 200입니다.")
         int size,
-        // sort 예: createdAt,desc
-        @NotBlank(message = "정렬 기준을 지정하세요.")
-        String sort
-) { }
+        // sort 예: createdAt,desc (선택)
+        String sort,
+        // 커서 모드 전용: 이전 응답의 nextCursor
+        String cursor
+) {
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    public boolean hasSort() {
+        return sort != null && !sort.isBlank();
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.boardback.dto.board.response;
+
+import java.util.List;
+
+/**
+ * 카테고리별 게시글 수 응답
+ */
+public record BoardCategoryCountResponseDto(
+        List<CategoryCount> categories,
+        long total
+) {
+    public record CategoryCount(
+            Long categoryId,
+            String categoryName,
+            long count
+    ) { }
+}
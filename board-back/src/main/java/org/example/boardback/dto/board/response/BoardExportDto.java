@@ -0,0 +1,22 @@
+package org.example.boardback.dto.board.response;
+
+import java.time.Instant;
+
+/**
+ * 게시글 내보내기(NDJSON) 1줄
+ */
+public record BoardExportDto(
+        Long id,
+        String title,
+        String content,
+        Long writerId,
+        String writerNickname,
+        Long categoryId,
+        String categoryName,
+        long viewCount,
+        int likeCount,
+        int commentCount,
+        boolean pinned,
+        Instant createdAt,
+        Instant updatedAt
+) {}
@@ -0,0 +1,14 @@
+package org.example.boardback.dto.board.response;
+
+import java.util.List;
+
+/**
+ * 게시글 가져오기 결과
+ * - errors: 거부된 행의 "줄 번호: 사유" (최대 100건)
+ */
+public record BoardImportResultDto(
+        long imported,
+        long rejected,
+        List<String> errors,
+        long elapsedMs
+) {}
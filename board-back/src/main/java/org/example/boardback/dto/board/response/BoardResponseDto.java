@@ -4,11 +4,14 @@ import java.time.Instant;
 
 /**
  * 게시글 상세 응답
+ * - content: 원문 (수정 폼용), contentHtml: 저장 시 생성한 렌더링 HTML (표시용)
+ * - version: 낙관적 락 버전, 수정 요청 시 그대로 돌려보냄
  */
 public record BoardResponseDto(
         Long id,
         String title,
         String content,
+        String contentHtml,
         long viewCount,
         boolean pinned,
         Long writerId,
@@ -18,12 +21,14 @@ public record BoardResponseDto(
         int likeCount,
         int commentCount,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {
     public static BoardResponseDto of(
             Long id,
             String title,
             String content,
+            String contentHtml,
             long viewCount,
             boolean pinned,
             Long writerId,
@@ -33,10 +38,17 @@ public record BoardResponseDto(
             int likeCount,
             int commentCount,
             Instant createdAt,
-            Instant updatedAt
+            Instant updatedAt,
+            long version
     ) {
-        return new BoardResponseDto(id, title, content, viewCount, pinned,
+        return new BoardResponseDto(id, title, content, contentHtml, viewCount, pinned,
                 writerId, writerNickname, categoryId, categoryName,
-                likeCount, commentCount, createdAt, updatedAt);
+                likeCount, commentCount, createdAt, updatedAt, version);
+    }
+
+    public BoardResponseDto withViewCount(long viewCount) {
+        return new BoardResponseDto(id, title, content, contentHtml, viewCount, pinned,
+                writerId, writerNickname, categoryId, categoryName,
+                likeCount, commentCount, createdAt, updatedAt, version);
     }
 }
\ No newline at end of file
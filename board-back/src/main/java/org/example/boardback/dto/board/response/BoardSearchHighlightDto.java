@@ -0,0 +1,11 @@
+package org.example.boardback.dto.board.response;
+
+/**
+ * 검색 결과 하이라이트
+ * - 매칭 부분을 <mark></mark> 로 감싼 HTML 조각 (원문은 이스케이프됨)
+ * - 해당 필드에 매칭이 없으면 null
+ */
+public record BoardSearchHighlightDto(
+        String title,
+        String content
+) { }
@@ -1,5 +1,8 @@
 package org.example.boardback.dto.board.response;
 
+import org.example.boardback.common.utils.DateTimeUtil;
+import org.example.boardback.repository.board.projection.BoardSummaryView;
+
 import java.time.Instant;
 
 /**
@@ -18,4 +21,21 @@ public record BoardSummaryDto(
         int commentCount,
         boolean pinned,
         Instant createdAt
-) { }
+) {
+    public static BoardSummaryDto from(BoardSummaryView view) {
+        return new BoardSummaryDto(
+                view.getId(),
+                view.getTitle(),
+                view.getExcerpt(),
+                view.getWriterId(),
+                view.getWriterNickname(),
+                view.getCategoryId(),
+                view.getCategoryName(),
+                view.getViewCount(),
+                view.getLikeCount(),
+                view.getCommentCount(),
+                Boolean.TRUE.equals(view.getPinned()),
+                DateTimeUtil.toInstant(view.getCreatedAt())
+        );
+    }
+}
@@ -4,6 +4,7 @@ import java.time.Instant;
 
 /**
  * 임시저장 응답
+ * - version: 낙관적 락 버전, 다음 자동 저장 요청 시 그대로 돌려보냄
  */
 public record DraftResponseDto(
         Long id,
@@ -12,11 +13,12 @@ public record DraftResponseDto(
         Long writerId,
         String writerNickname,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {
     public static DraftResponseDto from(Long id, String title, String content,
                                         Long writerId, String writerNickname,
-                                        Instant createdAt, Instant updatedAt) {
-        return new DraftResponseDto(id, title, content, writerId, writerNickname, createdAt, updatedAt);
+                                        Instant createdAt, Instant updatedAt, long version) {
+        return new DraftResponseDto(id, title, content, writerId, writerNickname, createdAt, updatedAt, version);
     }
 }
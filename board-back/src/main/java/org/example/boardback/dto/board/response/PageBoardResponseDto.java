@@ -1,14 +1,30 @@
 package org.example.boardback.dto.board.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
  * 페이징 응답
+ * - OFFSET 모드: totalElements / totalPages 포함, nextCursor 없음
+ * - 커서 모드: COUNT(*) 를 생략하므로 totalElements / totalPages 없음
+ *   , 다음 페이지가 없으면 nextCursor 도 null
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageBoardResponseDto(
         List<BoardSummaryDto> items,
         int page,
         int size,
-        long totalElements,
-        int totalPages
-) { }
+        Long totalElements,
+        Integer totalPages,
+        String nextCursor
+) {
+    public static PageBoardResponseDto ofOffset(List<BoardSummaryDto> items, int page, int size,
+                                                long totalElements, int totalPages) {
+        return new PageBoardResponseDto(items, page, size, totalElements, totalPages, null);
+    }
+
+    public static PageBoardResponseDto ofCursor(List<BoardSummaryDto> items, int size, String nextCursor) {
+        return new PageBoardResponseDto(items, 0, size, null, null, nextCursor);
+    }
+}
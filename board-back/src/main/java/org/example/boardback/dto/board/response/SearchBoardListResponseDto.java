@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
+import java.util.Map;
 
 public record SearchBoardListResponseDto(
 
@@ -26,6 +27,9 @@ public record SearchBoardListResponseDto(
         @NotEmpty(message = "검색 키워드는 반드시 입력되어야 합니다.")
         String keyword,
 
-        Long categoryId
+        Long categoryId,
+
+        // 게시글 id → 하이라이트 (색인 검색일 때 상위 결과에 대해서만 포함)
+        Map<Long, BoardSearchHighlightDto> highlights
 
 ) {}
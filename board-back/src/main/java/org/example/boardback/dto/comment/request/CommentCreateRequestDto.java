@@ -0,0 +1,13 @@
+package org.example.boardback.dto.comment.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 댓글 작성 / 수정 요청
+ */
+public record CommentCreateRequestDto(
+        @NotBlank(message = "댓글 내용을 입력하세요.")
+        @Size(max = 1000, message = "댓글은 최대 1000자입니다.")
+        String content
+) { }
@@ -0,0 +1,31 @@
+package org.example.boardback.dto.comment.response;
+
+import org.example.boardback.common.utils.DateTimeUtil;
+import org.example.boardback.entity.comment.Comment;
+
+import java.time.Instant;
+
+/**
+ * 댓글 단건 응답
+ */
+public record CommentResponseDto(
+        Long commentId,
+        Long boardId,
+        Long userId,
+        String nickname,
+        String content,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static CommentResponseDto from(Comment comment, Long boardId) {
+        return new CommentResponseDto(
+                comment.getId(),
+                boardId,
+                comment.getWriter().getId(),
+                comment.getWriter().getNickname(),
+                comment.getContent(),
+                DateTimeUtil.toInstant(comment.getCreatedAt()),
+                DateTimeUtil.toInstant(comment.getUpdatedAt())
+        );
+    }
+}
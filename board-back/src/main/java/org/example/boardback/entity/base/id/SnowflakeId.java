@@ -0,0 +1,20 @@
+package org.example.boardback.entity.base.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티별 opt-in: @GeneratedValue(IDENTITY) 대신 @Id 필드에 지정
+ * - INSERT 전에 애플리케이션에서 id 를 정하므로 Hibernate INSERT 배치(hibernate.jdbc.batch_size)가 동작
+ * - 기존 AUTO_INCREMENT 컬럼은 그대로 두어도 됨 (명시한 id 값으로 INSERT)
+ * - id 가 2^53 을 넘으므로 JSON 으로 노출하는 경우 프론트(JS number) 정밀도에 주의
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,74 @@
+package org.example.boardback.entity.base.id;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * === SnowflakeIdGenerator ===
+ * 시간 순서 64bit id 생성기 (DB 왕복 / 락 없음)
+ *
+ * [ 0 | 41bit: EPOCH 이후 ms | 10bit: worker id | 12bit: sequence ]
+ * - worker 당 ms 마다 4096개, 약 69년 사용 가능 (EPOCH = 2025-01-01T00:00Z)
+ * - (ms, sequence) 를 AtomicLong 하나에 담아 CAS 로 갱신 → 락 없이 스레드 간 중복 X
+ * - 같은 ms 안에서 sequence 를 다 쓰거나 시계가 뒤로 가면 마지막 값 + 1 (다음 ms 를 미리 사용)
+ *   → 한 프로세스 안에서는 항상 증가, 시계 역행 시에도 대기 / 예외 없음
+ * - 노드마다 다른 worker id 를 지정해야 함 (app.id.worker-id, 0 ~ 1023)
+ */
+public final class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // worker id 별 1개 (같은 worker 를 쓰는 엔티티가 여러 개여도 상태 공유)
+    private static final ConcurrentMap<Integer, SnowflakeIdGenerator> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long workerBits;
+    private final LongSupplier clock;
+
+    // (EPOCH 이후 ms << SEQUENCE_BITS) | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    SnowflakeIdGenerator(int workerId, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("worker id 는 0 ~ " + MAX_WORKER_ID + " 범위여야 합니다: " + workerId);
+        }
+        this.workerBits = (long) workerId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public static SnowflakeIdGenerator forWorker(int workerId) {
+        return INSTANCES.computeIfAbsent(workerId, id -> new SnowflakeIdGenerator(id, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        while (true) {
+            long previous = state.get();
+            long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long next = now > previous ? now : previous + 1;
+
+            if (state.compareAndSet(previous, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << (WORKER_BITS + SEQUENCE_BITS)) | workerBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /** id 에 기록된 생성 시각 */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /** id 에 기록된 worker id */
+    public static int workerIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_WORKER_ID);
+    }
+}
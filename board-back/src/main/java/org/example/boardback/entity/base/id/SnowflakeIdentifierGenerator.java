@@ -0,0 +1,34 @@
+package org.example.boardback.entity.base.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import java.lang.reflect.Member;
+
+/**
+ * @SnowflakeId 용 Hibernate IdentifierGenerator
+ * - worker id: Hibernate 설정 "app.id.worker-id" (SnowflakeIdConfig 가 app.id.worker-id 값을 전달)
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String WORKER_ID_SETTING = "app.id.worker-id";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        int workerId = ConfigurationHelper.getInt(
+                WORKER_ID_SETTING,
+                context.getServiceRegistry().requireService(ConfigurationService.class).getSettings(),
+                0
+        );
+        this.generator = SnowflakeIdGenerator.forWorker(workerId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
@@ -9,7 +9,9 @@ import org.example.boardback.entity.base.BaseTimeEntity;
 import org.example.boardback.entity.board.like.BoardLike;
 import org.example.boardback.entity.comment.Comment;
 import org.example.boardback.entity.user.User;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -19,11 +21,19 @@ import java.util.Set;
         indexes = {
                 @Index(name = "idx_boards_created_at", columnList = "created_at"),
                 @Index(name = "idx_boards_updated_at", columnList = "updated_at"),
+                @Index(name = "idx_boards_category_created_at", columnList = "category_id, created_at, id"),
+                @Index(name = "idx_boards_user_created_at", columnList = "user_id, created_at, id"),
+                @Index(name = "idx_boards_pinned_created_at", columnList = "is_pinned, created_at, id"),
+                @Index(name = "idx_boards_deleted_at", columnList = "deleted_at"),
         }
 )
+// 삭제(soft delete)된 글은 모든 JPQL / 엔티티 조회에서 제외 (네이티브 SQL 은 조건을 직접 추가)
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Board extends BaseTimeEntity {
+    public static final int EXCERPT_LENGTH = 100;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", updatable = false)
     private Long id;
@@ -31,16 +41,38 @@ public class Board extends BaseTimeEntity {
     @Column(nullable = false, length = 150)
     private String title;
 
-    @Lob
-    @Column(nullable = false)
-    private String content;
+    // 본문(LONGTEXT)은 board_contents(BoardContent) 로 분리, 목록용 미리보기만 boards 행에 보관
+    // : 작성 / 수정 시 BoardContentRenderer.excerpt 로 계산한 일반 텍스트
+    @Column(nullable = false, length = EXCERPT_LENGTH)
+    private String excerpt;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수: BoardViewCountBuffer 에 누적 후 배치 UPDATE(view_count = view_count + ?)로만 반영
+    @Column(name = "view_count", nullable = false, updatable = false)
     private long viewCount = 0L;
 
+    // == 비정규화 카운터 ==
+    // : 좋아요/댓글 작성·삭제 시 BoardRepository 의 원자적 UPDATE(like_count = like_count + 1)로만 변경
+    // : updatable = false → 엔티티 변경 감지(dirty checking) 시 오래된 값으로 덮어쓰지 않음
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private int likeCount = 0;
+
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private int commentCount = 0;
+
     @Column(name = "is_pinned", nullable = false)
     private boolean pinned = false;
 
+    // 낙관적 락: 글 수정은 요청의 version 과 비교(BoardRepository.increaseVersion), 다르면 409
+    // : 고정 / 고정 해제가 동시 커밋으로 실패하면 @OptimisticRetry 로 다시 읽고 재실행
+    // : 카운터 / 조회수는 벌크 UPDATE 로만 바뀌므로 버전을 올리지 않음 (글 수정과 충돌 X)
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // 삭제 시각 (soft delete): 요청에서는 이 값만 기록, 좋아요 / 댓글 / 첨부 파일 / 행 자체는 BoardPurgeScheduler 가 나중에 정리
+    @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime deletedAt;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "fk_board_user"))
     private User writer;
@@ -49,28 +81,30 @@ public class Board extends BaseTimeEntity {
     @JoinColumn(name = "category_id", foreignKey = @ForeignKey(name = "fk_board_category"))
     private BoardCategory category;
 
-    @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 좋아요 / 댓글은 각 Repository 로만 저장 / 삭제 (cascade X)
+    // : 게시글 삭제 시 컬렉션 전체를 읽어 한 건씩 DELETE 하지 않도록 BoardPurgeRepository 가 board_id 기준으로 일괄 삭제
+    @OneToMany(mappedBy = "board")
     private Set<BoardLike> likes = new HashSet<>();
 
-    @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "board")
     private Set<Comment> comments = new HashSet<>();
 
     // == 편의 메서드 == //
-    public void increaseViewCount() { this.viewCount++; }
     public void pin() { this.pinned = true; }
     public void unpin() { this.pinned = false; }
+    public void markDeleted(LocalDateTime now) { this.deletedAt = now; }
 
     @Builder
-    public Board(String title, String content, User writer, BoardCategory category) {
+    public Board(String title, String excerpt, User writer, BoardCategory category) {
         this.title = title;
-        this.content = content;
+        this.excerpt = excerpt;
         this.writer = writer;
         this.category = category;
     }
 
-    public void changeContent(String title, String content, BoardCategory category) {
+    public void changeContent(String title, String excerpt, BoardCategory category) {
         this.title = title;
-        this.content = content;
+        this.excerpt = excerpt;
         this.category = category;
     }
 }
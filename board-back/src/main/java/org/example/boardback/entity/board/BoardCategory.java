@@ -5,12 +5,22 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.boardback.config.HibernateCacheConfig;
 import org.example.boardback.entity.base.BaseTimeEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * 게시판 카테고리
+ * - 2차 캐시 대상 (글 작성 / 수정마다 categoryId 로 조회) — 변경이 드물어 NONSTRICT_READ_WRITE
+ * - boards 컬렉션은 캐시하지 않음
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = HibernateCacheConfig.BOARD_CATEGORY_REGION)
 @Table(
         name = "board_categories",
         uniqueConstraints = {
@@ -0,0 +1,29 @@
+package org.example.boardback.entity.board;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리별 게시글 수 (비정규화 카운터)
+ * - 게시글 작성 / 삭제 / 카테고리 변경 시 BoardCategoryStatRepository 의 원자적 UPDATE 로만 변경
+ * - BoardCategoryStatReconcileScheduler 가 주기적으로 실제 COUNT 와 맞춤
+ */
+@Entity
+@Table(name = "board_category_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardCategoryStat {
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "board_count", nullable = false, updatable = false)
+    private long boardCount = 0L;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
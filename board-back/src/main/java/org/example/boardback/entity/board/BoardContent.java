@@ -0,0 +1,47 @@
+package org.example.boardback.entity.board;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문 (board_contents)
+ * - 큰 LONGTEXT 를 boards 행에서 분리 → 목록 조회 / 카운터 UPDATE / 고정 처리는 작은 boards 행만 읽고 잠금
+ * - PK = boards.id (@MapsId), 본문이 필요한 상세 조회 / 수정 / 검색에서만 조회
+ * - renderedHtml: 작성 / 수정 시 BoardContentRenderer 로 만든 상세용 HTML
+ *   (null = 아직 생성 전인 기존 글 → BoardContentBackfillScheduler 가 채움)
+ */
+@Entity
+@Table(name = "board_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardContent {
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "board_id", foreignKey = @ForeignKey(name = "fk_board_contents_board"))
+    private Board board;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    @Lob
+    @Column(name = "rendered_html")
+    private String renderedHtml;
+
+    public BoardContent(Board board, String content, String renderedHtml) {
+        this.board = board;
+        this.content = content;
+        this.renderedHtml = renderedHtml;
+    }
+
+    public void changeContent(String content, String renderedHtml) {
+        this.content = content;
+        this.renderedHtml = renderedHtml;
+    }
+}
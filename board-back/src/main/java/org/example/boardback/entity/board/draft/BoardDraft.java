@@ -35,6 +35,11 @@ public class BoardDraft extends BaseTimeEntity {
     @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "fk_board_draft_user"))
     private User writer;
 
+    // 낙관적 락: 자동 저장 요청이 겹쳐도 서로의 변경을 조용히 덮어쓰지 않도록
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @Builder
     public BoardDraft(String title, String content, User writer) {
         this.title = title;
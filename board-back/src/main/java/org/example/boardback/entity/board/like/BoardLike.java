@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.boardback.entity.base.BaseTimeEntity;
+import org.example.boardback.entity.base.id.SnowflakeId;
 import org.example.boardback.entity.board.Board;
 import org.example.boardback.entity.user.User;
 
@@ -23,8 +24,9 @@ import org.example.boardback.entity.user.User;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BoardLike extends BaseTimeEntity {
+    // 좋아요는 쓰기가 가장 잦은 테이블 → DB 왕복 없이 id 생성 (INSERT 배치 가능, API 로 노출되지 않음)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "id", updatable = false)
     private Long id;
 
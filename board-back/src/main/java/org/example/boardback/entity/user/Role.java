@@ -5,8 +5,17 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.boardback.common.enums.user.RoleType;
+import org.example.boardback.config.HibernateCacheConfig;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * 권한 (RoleType 별 1행, 수정 없음)
+ * - 2차 캐시 READ_ONLY (OAuth2 가입 시마다 USER 권한 조회)
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = HibernateCacheConfig.ROLE_REGION)
 @Table(name = "roles")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,6 +16,11 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
+@NamedEntityGraph(
+        name = User.WITH_ROLES,
+        attributeNodes = @NamedAttributeNode(value = "userRoles", subgraph = "userRoles.role"),
+        subgraphs = @NamedSubgraph(name = "userRoles.role", attributeNodes = @NamedAttributeNode("role"))
+)
 @Table(
         name = "users",
         uniqueConstraints = {
@@ -28,6 +33,9 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
+    // 권한 목록이 필요한 조회(내 정보 / 토큰 재발급)용 fetch plan: userRoles + role 한 번에 조회
+    public static final String WITH_ROLES = "User.withRoles";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", updatable = false)
     private Long id;
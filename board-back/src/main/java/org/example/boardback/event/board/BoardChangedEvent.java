@@ -0,0 +1,27 @@
+package org.example.boardback.event.board;
+
+/**
+ * 게시글 생성 / 수정 / 삭제 이벤트
+ * - 트랜잭션 커밋 후(@TransactionalEventListener AFTER_COMMIT) 검색 색인 등 파생 데이터 갱신에 사용
+ * - DELETED 이벤트는 title / content 가 null
+ */
+public record BoardChangedEvent(
+        Long boardId,
+        Type type,
+        String title,
+        String content
+) {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    public static BoardChangedEvent created(Long boardId, String title, String content) {
+        return new BoardChangedEvent(boardId, Type.CREATED, title, content);
+    }
+
+    public static BoardChangedEvent updated(Long boardId, String title, String content) {
+        return new BoardChangedEvent(boardId, Type.UPDATED, title, content);
+    }
+
+    public static BoardChangedEvent deleted(Long boardId) {
+        return new BoardChangedEvent(boardId, Type.DELETED, null, null);
+    }
+}
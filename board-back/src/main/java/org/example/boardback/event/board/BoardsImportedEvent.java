@@ -0,0 +1,7 @@
+package org.example.boardback.event.board;
+
+/**
+ * 게시글 대량 가져오기 완료 이벤트
+ * - 행 단위 BoardChangedEvent 대신 1회만 발행 (검색 색인은 전체 재색인으로 반영)
+ */
+public record BoardsImportedEvent(long importedCount) {}
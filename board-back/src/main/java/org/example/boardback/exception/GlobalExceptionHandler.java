@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.boardback.common.enums.user.ErrorCode;
 import org.example.boardback.dto.ResponseDto;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -135,6 +136,19 @@ public class GlobalExceptionHandler {
                         ErrorCode.ACCESS_DENIED.name()));
     }
 
+    /**
+     * 낙관적 락 충돌 (@Version) - @OptimisticRetry 재시도까지 실패한 경우 포함
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ResponseDto<?>> handleOptimisticLock(OptimisticLockingFailureException e) {
+        log.warn("[OptimisticLock] {}", e.getMessage());
+
+        ErrorCode code = ErrorCode.CONCURRENT_MODIFICATION;
+        return ResponseEntity
+                .status(code.getStatus())
+                .body(ResponseDto.failure(code.getMessage(), code.getStatus().value(), code.name()));
+    }
+
     /**
      * DB 제약 조건 위반
      */
@@ -0,0 +1,124 @@
+package org.example.boardback.repository.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 대량 INSERT (BoardImportService)
+ *
+ * - Board.id 가 IDENTITY 라 Hibernate 는 INSERT 를 배치로 묶지 못함 (행마다 즉시 실행 후 id 조회)
+ *   → 엔티티를 거치지 않고 JDBC addBatch / executeBatch 로 직접 INSERT
+ * - MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 배치가 multi-row INSERT 1개로 전송됨
+ * - 생성된 id 는 getGeneratedKeys 로 한 번에 받아 board_contents INSERT 에 사용
+ *   (multi-row INSERT 는 단일 문장이므로 InnoDB 가 연속된 AUTO_INCREMENT 값을 할당)
+ * - 호출 측 트랜잭션의 커넥션을 그대로 사용 (청크 단위 커밋은 호출 측에서 관리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardBulkInsertRepository {
+
+    public record NewBoard(
+            String title,
+            String excerpt,
+            String content,
+            String renderedHtml,
+            long writerId,
+            long categoryId,
+            long viewCount,
+            LocalDateTime createdAt
+    ) {}
+
+    private static final String INSERT_BOARD = """
+            INSERT INTO boards (title, excerpt, view_count, user_id, category_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_CONTENT = """
+            INSERT INTO board_contents (board_id, content, rendered_html)
+            VALUES (?, ?, ?)
+            """;
+
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 존재하는 사용자 id (작성자 FK 사전 검증) */
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Set.of();
+
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", userIds),
+                Long.class
+        ));
+    }
+
+    /** boards + board_contents 배치 INSERT, 생성된 게시글 id 목록(입력 순서) 반환 */
+    public List<Long> insertAll(List<NewBoard> boards) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+
+        try {
+            List<Long> ids = insertBoards(connection, boards);
+            insertContents(connection, boards, ids);
+            return ids;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private List<Long> insertBoards(Connection connection, List<NewBoard> boards) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_BOARD, Statement.RETURN_GENERATED_KEYS)) {
+            for (NewBoard board : boards) {
+                Timestamp createdAt = Timestamp.valueOf(board.createdAt());
+
+                statement.setString(1, board.title());
+                statement.setString(2, board.excerpt());
+                statement.setLong(3, board.viewCount());
+                statement.setLong(4, board.writerId());
+                statement.setLong(5, board.categoryId());
+                statement.setTimestamp(6, createdAt);
+                statement.setTimestamp(7, createdAt);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+
+            List<Long> ids = new ArrayList<>(boards.size());
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                while (keys.next()) ids.add(keys.getLong(1));
+            }
+
+            if (ids.size() != boards.size()) {
+                throw new SQLException("생성된 id 수가 INSERT 건수와 다름: " + ids.size() + " / " + boards.size());
+            }
+            return ids;
+        }
+    }
+
+    private void insertContents(Connection connection, List<NewBoard> boards, List<Long> ids) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_CONTENT)) {
+            for (int i = 0; i < boards.size(); i++) {
+                statement.setLong(1, ids.get(i));
+                statement.setString(2, boards.get(i).content());
+                statement.setString(3, boards.get(i).renderedHtml());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+}
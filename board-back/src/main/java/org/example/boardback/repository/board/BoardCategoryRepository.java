@@ -1,7 +1,17 @@
 package org.example.boardback.repository.board;
 
+import jakarta.persistence.QueryHint;
 import org.example.boardback.entity.board.BoardCategory;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface BoardCategoryRepository extends JpaRepository<BoardCategory, Long> {
+
+    /** 전체 카테고리 (스케줄러 / 일괄 등록에서 반복 호출) → 쿼리 캐시, 엔티티는 2차 캐시에서 조립 */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<BoardCategory> findAll();
 }
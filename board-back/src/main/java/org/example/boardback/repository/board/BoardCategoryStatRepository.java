@@ -0,0 +1,54 @@
+package org.example.boardback.repository.board;
+
+import org.example.boardback.entity.board.BoardCategoryStat;
+import org.example.boardback.repository.board.projection.BoardCategoryCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface BoardCategoryStatRepository extends JpaRepository<BoardCategoryStat, Long> {
+
+    // == 카테고리별 게시글 수 (카테고리 수만큼의 행만 읽음, boards GROUP BY 없음) ==
+    @Query("""
+        select c.id as categoryId,
+               c.name as categoryName,
+               coalesce(s.boardCount, 0) as boardCount
+        from BoardCategory c
+            left join BoardCategoryStat s on s.categoryId = c.id
+        order by c.id
+    """)
+    List<BoardCategoryCountView> findAllCounts();
+
+    // == 증감 ==
+    // : 게시글 트랜잭션의 마지막 쓰기로 실행하여 카운터 행 락 보유 시간을 최소화
+    @Modifying
+    @Query("update BoardCategoryStat s set s.boardCount = s.boardCount + :delta where s.categoryId = :categoryId")
+    int addBoardCount(@Param("categoryId") Long categoryId, @Param("delta") long delta);
+
+    // == 보정(reconcile) ==
+    // : 통계 행이 없는 카테고리(신규 카테고리 등) 행 생성
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO board_category_stats (category_id, board_count)
+        SELECT c.id, 0
+        FROM board_categories c
+        WHERE NOT EXISTS (SELECT 1 FROM board_category_stats s WHERE s.category_id = c.id)
+    """, nativeQuery = true)
+    int insertMissingRows();
+
+    // : 실제 COUNT 와 다른 행만 갱신 (카테고리 1개 단위 → boards(category_id) 인덱스 범위 COUNT)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE board_category_stats s
+        SET s.board_count = (SELECT COUNT(*) FROM boards b WHERE b.category_id = s.category_id AND b.deleted_at IS NULL)
+        WHERE s.category_id = :categoryId
+          AND s.board_count <> (SELECT COUNT(*) FROM boards b WHERE b.category_id = s.category_id AND b.deleted_at IS NULL)
+    """, nativeQuery = true)
+    int reconcile(@Param("categoryId") Long categoryId);
+}
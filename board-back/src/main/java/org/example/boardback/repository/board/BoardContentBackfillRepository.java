@@ -0,0 +1,83 @@
+package org.example.boardback.repository.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리보기 / 렌더링 HTML 백필 (BoardContentBackfillScheduler)
+ * - rendered_html 이 NULL 인 기존 글만 키셋 청크로 조회 → 계산 결과를 일괄 UPDATE
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardContentBackfillRepository {
+
+    public record PendingContent(long boardId, String content) {}
+
+    public record RenderedContent(long boardId, String excerpt, String renderedHtml) {}
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** board_id > lastId 이면서 아직 렌더링되지 않은 글 limit 건 (PK 순) */
+    public List<PendingContent> findPendingAfter(long lastId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT board_id, content
+                FROM board_contents
+                WHERE board_id > :lastId
+                  AND rendered_html IS NULL
+                ORDER BY board_id
+                LIMIT :limit
+                """,
+                new MapSqlParameterSource()
+                        .addValue("lastId", lastId)
+                        .addValue("limit", limit),
+                (rs, rowNum) -> new PendingContent(rs.getLong("board_id"), rs.getString("content"))
+        );
+    }
+
+    /**
+     * 청크 단위 저장 (한 트랜잭션)
+     * - rendered_html IS NULL 조건: 조회 이후 사용자가 글을 수정했다면(값이 채워짐) 덮어쓰지 않음
+     * - 실제로 갱신된 글만 boards.excerpt 반영
+     */
+    @Transactional
+    public int saveAll(List<RenderedContent> rendered) {
+        if (rendered.isEmpty()) return 0;
+
+        SqlParameterSource[] contentParams = rendered.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("boardId", r.boardId())
+                        .addValue("renderedHtml", r.renderedHtml()))
+                .toArray(SqlParameterSource[]::new);
+
+        int[] updated = jdbcTemplate.batchUpdate("""
+                UPDATE board_contents
+                SET rendered_html = :renderedHtml
+                WHERE board_id = :boardId
+                  AND rendered_html IS NULL
+                """, contentParams);
+
+        List<SqlParameterSource> excerptParams = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) continue;
+
+            excerptParams.add(new MapSqlParameterSource()
+                    .addValue("boardId", rendered.get(i).boardId())
+                    .addValue("excerpt", rendered.get(i).excerpt()));
+        }
+
+        if (!excerptParams.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE boards SET excerpt = :excerpt WHERE id = :boardId",
+                    excerptParams.toArray(SqlParameterSource[]::new)
+            );
+        }
+        return excerptParams.size();
+    }
+}
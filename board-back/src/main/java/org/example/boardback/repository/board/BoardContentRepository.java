@@ -0,0 +1,7 @@
+package org.example.boardback.repository.board;
+
+import org.example.boardback.entity.board.BoardContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardContentRepository extends JpaRepository<BoardContent, Long> {
+}
@@ -0,0 +1,71 @@
+package org.example.boardback.repository.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 (board_v1.sql 의 ft_boards_title / ft_board_contents_content 인덱스 사용)
+ * - MySQL 전용 문법이므로 호출 전 DB 종류를 확인해야 함 (FulltextBoardSearchEngine)
+ * - 제목(boards) / 본문(board_contents) 이 다른 테이블이라 하나의 FULLTEXT 인덱스로 묶을 수 없음
+ *   → ALL 은 테이블별 MATCH 결과를 UNION ALL 후 id 별 점수 합산
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardFulltextSearchRepository {
+
+    private static final String TITLE_HITS = """
+            SELECT b.id, MATCH(b.title) AGAINST (:q IN BOOLEAN MODE) AS score
+            FROM boards b
+            WHERE MATCH(b.title) AGAINST (:q IN BOOLEAN MODE)
+              AND b.deleted_at IS NULL
+            """;
+
+    private static final String CONTENT_HITS = """
+            SELECT bc.board_id AS id, MATCH(bc.content) AGAINST (:q IN BOOLEAN MODE) AS score
+            FROM board_contents bc
+                JOIN boards b ON b.id = bc.board_id
+            WHERE MATCH(bc.content) AGAINST (:q IN BOOLEAN MODE)
+              AND b.deleted_at IS NULL
+            """;
+
+    public enum Mode {
+        ALL(TITLE_HITS + " UNION ALL " + CONTENT_HITS),
+        TITLE(TITLE_HITS),
+        CONTENT(CONTENT_HITS);
+
+        private final String hits;
+
+        Mode(String hits) {
+            this.hits = hits;
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 관련도(MATCH 점수 합) 내림차순, 동점이면 최신 글 우선 */
+    public List<Long> searchIds(String booleanQuery, Mode mode, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT h.id FROM (" + mode.hits + ") h"
+                        + " GROUP BY h.id ORDER BY SUM(h.score) DESC, h.id DESC LIMIT :limit",
+                params(booleanQuery).addValue("limit", limit),
+                Long.class
+        );
+    }
+
+    public long count(String booleanQuery, Mode mode) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT h.id) FROM (" + mode.hits + ") h",
+                params(booleanQuery),
+                Long.class
+        );
+        return count == null ? 0 : count;
+    }
+
+    private MapSqlParameterSource params(String booleanQuery) {
+        return new MapSqlParameterSource("q", booleanQuery);
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.boardback.repository.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제(soft delete)된 게시글 정리 (BoardPurgeScheduler)
+ * - 좋아요 / 댓글: board_id 인덱스로 DELETE ... LIMIT n 반복 (문장마다 자동 커밋 → 락을 짧게 잡음)
+ * - 첨부 파일: 청크 단위로 board_files / file_infos 행 삭제 (한 트랜잭션), 물리 파일은 호출부에서 커밋 후 삭제
+ * - 연관 데이터가 모두 지워진 뒤 board_contents / boards 행 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardPurgeRepository {
+
+    public record PurgeFile(long boardFileId, long fileInfoId, String filePath) {}
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** cutoff 이전에 삭제 표시된 게시글 id (idx_boards_deleted_at 범위 조회, 오래된 순) */
+    public List<Long> findDeletedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT id
+                FROM boards
+                WHERE deleted_at < :cutoff
+                ORDER BY deleted_at
+                LIMIT :limit
+                """,
+                new MapSqlParameterSource()
+                        .addValue("cutoff", cutoff)
+                        .addValue("limit", limit),
+                Long.class
+        );
+    }
+
+    public int deleteLikes(long boardId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM board_likes WHERE board_id = :boardId LIMIT :limit",
+                chunk(boardId, limit)
+        );
+    }
+
+    public int deleteComments(long boardId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM comments WHERE board_id = :boardId LIMIT :limit",
+                chunk(boardId, limit)
+        );
+    }
+
+    public List<PurgeFile> findFiles(long boardId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT bf.id AS board_file_id, fi.id AS file_info_id, fi.file_path
+                FROM board_files bf
+                    JOIN file_infos fi ON fi.id = bf.file_id
+                WHERE bf.board_id = :boardId
+                LIMIT :limit
+                """,
+                chunk(boardId, limit),
+                (rs, rowNum) -> new PurgeFile(
+                        rs.getLong("board_file_id"),
+                        rs.getLong("file_info_id"),
+                        rs.getString("file_path")
+                )
+        );
+    }
+
+    /** 매핑 행 → 파일 정보 행 순서로 삭제 (한 트랜잭션) */
+    @Transactional
+    public void deleteFiles(List<PurgeFile> files) {
+        if (files.isEmpty()) return;
+
+        jdbcTemplate.update("DELETE FROM board_files WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", files.stream().map(PurgeFile::boardFileId).toList()));
+        jdbcTemplate.update("DELETE FROM file_infos WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", files.stream().map(PurgeFile::fileInfoId).toList()));
+    }
+
+    /** 본문 / 게시글 행 삭제 (deleted_at 이 그대로인 경우에만) */
+    @Transactional
+    public boolean deleteBoard(long boardId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("boardId", boardId);
+
+        jdbcTemplate.update("DELETE FROM board_contents WHERE board_id = :boardId", params);
+        return jdbcTemplate.update(
+                "DELETE FROM boards WHERE id = :boardId AND deleted_at IS NOT NULL", params) > 0;
+    }
+
+    private static MapSqlParameterSource chunk(long boardId, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("boardId", boardId)
+                .addValue("limit", limit);
+    }
+}
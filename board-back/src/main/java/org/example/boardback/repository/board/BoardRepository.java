@@ -1,7 +1,209 @@
 package org.example.boardback.repository.board;
 
 import org.example.boardback.entity.board.Board;
+import org.example.boardback.repository.board.projection.BoardCategoryIdView;
+import org.example.boardback.repository.board.projection.BoardSummaryView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
+
+    // == 목록 조회 공통 select 절 ==
+    // : 요약 컬럼 + 작성자 닉네임 + 카테고리명을 단일 SQL 로 조회 (BoardSummaryView 로 매핑)
+    // : 본문(board_contents) / likes / comments 는 읽지 않음 → boards 의 작은 행만 접근
+    String SUMMARY_SELECT = """
+        select b.id as id,
+               b.title as title,
+               b.excerpt as excerpt,
+               w.id as writerId,
+               w.nickname as writerNickname,
+               c.id as categoryId,
+               c.name as categoryName,
+               b.viewCount as viewCount,
+               b.likeCount as likeCount,
+               b.commentCount as commentCount,
+               b.pinned as pinned,
+               b.createdAt as createdAt
+        from Board b
+            join b.writer w
+            join b.category c
+    """;
+
+    // 본문 LIKE 검색용 조인 (검색 쿼리에서만 board_contents 접근)
+    String CONTENT_JOIN = """
+            join BoardContent bc on bc.boardId = b.id
+    """;
+
+    String SEARCH_CONDITION = """
+        where (:searchType in ('title', 'all') and b.title like concat('%', :q, '%'))
+           or (:searchType in ('content', 'all') and bc.content like concat('%', :q, '%'))
+           or (:searchType in ('author', 'all') and w.nickname like concat('%', :q, '%'))
+    """;
+
+    // == OFFSET 페이징 ==
+    @Query(
+            value = SUMMARY_SELECT,
+            countQuery = "select count(b) from Board b"
+    )
+    Page<BoardSummaryView> findSummaryPage(Pageable pageable);
+
+    // == 키셋(커서) 페이징 ==
+    // : idx_boards_created_at (InnoDB 보조 인덱스는 PK(id)를 포함 → (created_at, id) 순서)
+    //   를 그대로 역방향 스캔하므로 OFFSET 없이 몇 번째 페이지든 동일한 비용
+    // : 반환 타입이 List 이므로 Pageable 은 LIMIT 으로만 사용 (COUNT 쿼리 X)
+    @Query(SUMMARY_SELECT + """
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardSummaryView> findFirstPageByCursor(Pageable pageable);
+
+    // b.createdAt <= :createdAt 조건은 OR 절이 있어도 인덱스 range 스캔이 되도록 추가한 중복 조건
+    @Query(SUMMARY_SELECT + """
+        where b.createdAt <= :createdAt
+          and (b.createdAt < :createdAt or b.id < :id)
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardSummaryView> findNextPageByCursor(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // == 카테고리별 목록 ==
+    // : idx_boards_category_created_at (category_id, created_at, id) 역방향 스캔 + LIMIT
+    //   (조인 대상 c.id 가 아닌 b.category.id 로 조건을 걸어야 boards 인덱스가 선택됨)
+    @Query(SUMMARY_SELECT + """
+        where b.category.id = :categoryId
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardSummaryView> findSummariesByCategoryId(
+            @Param("categoryId") Long categoryId,
+            Pageable pageable
+    );
+
+    // == 고정 게시글 ==
+    // : idx_boards_pinned_created_at (is_pinned, created_at, id)
+    @Query(SUMMARY_SELECT + """
+        where b.pinned = true
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardSummaryView> findPinnedSummaries();
+
+    // == 내가 쓴 글 ==
+    // : idx_boards_user_created_at (user_id, created_at, id) 역방향 스캔 + LIMIT
+    @Query(SUMMARY_SELECT + """
+        where b.writer.id = :userId
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardSummaryView> findSummariesByWriterId(
+            @Param("userId") Long userId,
+            Pageable pageable
+    );
+
+    // == 검색 (title / content / author / all) ==
+    @Query(
+            value = SUMMARY_SELECT + CONTENT_JOIN + SEARCH_CONDITION + """
+                order by b.createdAt desc, b.id desc
+            """,
+            countQuery = """
+                select count(b)
+                from Board b
+                    join b.writer w
+            """ + CONTENT_JOIN + SEARCH_CONDITION
+    )
+    Page<BoardSummaryView> searchSummaries(
+            @Param("q") String q,
+            @Param("searchType") String searchType,
+            Pageable pageable
+    );
+
+    // == id 목록으로 조회 (검색 색인 결과 하이드레이션, 순서는 호출 측에서 맞춤) ==
+    @Query(SUMMARY_SELECT + """
+        where b.id in :ids
+    """)
+    List<BoardSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /** ids 순서(검색 랭킹 순)대로 정렬된 요약 목록 (그 사이 삭제된 글은 제외) */
+    default List<BoardSummaryView> findSummariesByIdsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, BoardSummaryView> byId = findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(BoardSummaryView::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // == 상세 조회 (작성자 / 카테고리 fetch join) ==
+    // : 영속성 컨텍스트 없이(캐시 조기 갱신 스레드 등) DTO 로 변환해도 지연 로딩이 발생하지 않음
+    @Query("""
+        select b from Board b
+            join fetch b.writer
+            join fetch b.category
+        where b.id = :boardId
+    """)
+    Optional<Board> findDetailById(@Param("boardId") Long boardId);
+
+    // == 수정 요청 버전 확인 (compare-and-set) ==
+    // : 클라이언트가 읽은 버전과 같을 때만 +1 → 0 이면 그 사이 다른 수정이 커밋됨
+    // : 본문(board_contents)만 바뀌어 boards 행이 dirty 가 아니어도 버전이 올라감
+    // : 이 UPDATE 의 행 락이 커밋까지 유지되므로 이후 flush 에서 버전 충돌이 나지 않음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Board b set b.version = b.version + 1 where b.id = :boardId and b.version = :version")
+    int increaseVersion(@Param("boardId") Long boardId, @Param("version") long version);
+
+    // == 댓글 카운터 == (좋아요 수는 BoardLikeBatchRepository 가 일괄 반영)
+    // : 엔티티를 읽지 않고 단일 UPDATE 로 원자적으로 증감 (동시 요청에도 유실 X)
+    // : 감소 시 0 미만으로 내려가지 않도록 조건 추가
+    @Modifying
+    @Query("update Board b set b.commentCount = b.commentCount + 1 where b.id = :boardId")
+    int increaseCommentCount(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("update Board b set b.commentCount = b.commentCount - 1 where b.id = :boardId and b.commentCount > 0")
+    int decreaseCommentCount(@Param("boardId") Long boardId);
+
+    @Query("select b.category.id from Board b where b.id = :boardId")
+    Optional<Long> findCategoryIdById(@Param("boardId") Long boardId);
+
+    @Query("select b.id as id, b.category.id as categoryId from Board b where b.id in :ids")
+    List<BoardCategoryIdView> findCategoryIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select b.likeCount from Board b where b.id = :boardId")
+    Optional<Integer> findLikeCountById(@Param("boardId") Long boardId);
+
+    // == 카운터 보정(reconcile) ==
+    // : id 구간 단위로 실제 COUNT 와 다른 행만 갱신 (드리프트 복구)
+    @Query("select coalesce(min(b.id), 0) from Board b")
+    long findMinId();
+
+    @Query("select coalesce(max(b.id), 0) from Board b")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE boards b
+        SET b.like_count = (SELECT COUNT(*) FROM board_likes l WHERE l.board_id = b.id),
+            b.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.board_id = b.id)
+        WHERE b.id BETWEEN :fromId AND :toId
+          AND (b.like_count <> (SELECT COUNT(*) FROM board_likes l WHERE l.board_id = b.id)
+            OR b.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.board_id = b.id))
+    """, nativeQuery = true)
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,62 @@
+package org.example.boardback.repository.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색 색인 / 하이라이트용 원문(id, title, content) 조회 (boards + board_contents)
+ * - 엔티티 / 영속성 컨텍스트를 거치지 않고 필요한 컬럼만 읽음 (전체 재색인 시 메모리 사용 최소화)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardSearchSourceRepository {
+
+    public record BoardSearchSource(Long id, String title, String content) {}
+
+    private static final RowMapper<BoardSearchSource> ROW_MAPPER = (rs, rowNum) -> new BoardSearchSource(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("content")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 키셋 방식 청크 조회 (id > lastId 순으로 limit 건) */
+    public List<BoardSearchSource> findChunkAfter(long lastId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT b.id, b.title, bc.content
+                FROM boards b
+                    JOIN board_contents bc ON bc.board_id = b.id
+                WHERE b.id > :lastId
+                  AND b.deleted_at IS NULL
+                ORDER BY b.id
+                LIMIT :limit
+                """,
+                new MapSqlParameterSource()
+                        .addValue("lastId", lastId)
+                        .addValue("limit", limit),
+                ROW_MAPPER
+        );
+    }
+
+    public List<BoardSearchSource> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        return jdbcTemplate.query("""
+                SELECT b.id, b.title, bc.content
+                FROM boards b
+                    JOIN board_contents bc ON bc.board_id = b.id
+                WHERE b.id IN (:ids)
+                  AND b.deleted_at IS NULL
+                """,
+                new MapSqlParameterSource("ids", ids),
+                ROW_MAPPER
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.boardback.repository.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardViewCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INCREASE_SQL =
+            "UPDATE boards SET view_count = view_count + ? WHERE id = ?";
+
+    /**
+     * 게시글별 조회수 증가분을 JDBC 배치 한 번으로 반영
+     * - 엔티티 로딩 / 변경 감지 없이 원자적 증감 (행 락은 UPDATE 순간에만 잡힘)
+     * @return 실제 반영된 증가분 (버퍼에 쌓인 뒤 삭제된 글처럼 갱신된 행이 없는 id 는 제외)
+     */
+    public Map<Long, Long> increaseViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return Map.of();
+
+        List<Long> boardIds = new ArrayList<>(deltas.size());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, delta) -> {
+            boardIds.add(boardId);
+            args.add(new Object[]{delta, boardId});
+        });
+
+        int[] counts = jdbcTemplate.batchUpdate(INCREASE_SQL, args);
+
+        Map<Long, Long> applied = new HashMap<>(deltas.size());
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 배치를 재작성하면 행 수 대신 SUCCESS_NO_INFO → 반영된 것으로 간주
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                Long boardId = boardIds.get(i);
+                applied.put(boardId, deltas.get(boardId));
+            }
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.boardback.repository.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardViewDedupRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String PREFIX = "board:view:";
+
+    /**
+     * SET key 1 NX EX ttl
+     * - true: 윈도우 내 첫 조회 (조회수 증가 대상)
+     * - false: 윈도우 내 재조회 (무시)
+     */
+    public boolean markViewed(Long boardId, String viewerHash, Duration window) {
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(
+                PREFIX + boardId + ":" + viewerHash,
+                "1",
+                window
+        );
+        return Boolean.TRUE.equals(first);
+    }
+}
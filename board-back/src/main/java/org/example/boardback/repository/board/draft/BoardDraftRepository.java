@@ -1,7 +1,13 @@
 package org.example.boardback.repository.board.draft;
 
 import org.example.boardback.entity.board.draft.BoardDraft;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface BoardDraftRepository extends JpaRepository<BoardDraft, Long> {
+    // 응답에 작성자 닉네임 포함 → 작성자 함께 조회
+    @EntityGraph(attributePaths = "writer")
+    Optional<BoardDraft> findWithWriterById(Long id);
 }
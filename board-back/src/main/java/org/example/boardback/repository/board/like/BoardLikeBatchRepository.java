@@ -0,0 +1,111 @@
+package org.example.boardback.repository.board.like;
+
+import org.example.boardback.common.utils.DateTimeUtil;
+import org.example.boardback.entity.base.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 변경분 일괄 반영 (BoardLikeFlushScheduler)
+ *
+ * - 게시글 1건의 순변경(사용자별 마지막 요청)을 INSERT / DELETE JDBC 배치로 한 트랜잭션에 반영
+ * - INSERT IGNORE: 이미 있는 (board_id, user_id) 는 건너뜀 → 재시도 / 중복 반영에도 안전
+ * - id 는 SnowflakeIdGenerator 로 애플리케이션에서 생성 (BoardLike 엔티티와 같은 worker)
+ * - 실제로 바뀐 행 수만큼 boards.like_count 를 증감
+ *   (드라이버가 행 수를 알려주지 않는 경우(SUCCESS_NO_INFO)에는 COUNT 로 다시 계산)
+ */
+@Repository
+public class BoardLikeBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO board_likes (id, board_id, user_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String DELETE_SQL =
+            "DELETE FROM board_likes WHERE board_id = ? AND user_id = ?";
+
+    private static final String ADD_COUNT_SQL =
+            "UPDATE boards SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+    private static final String RECOUNT_SQL = """
+            UPDATE boards
+            SET like_count = (SELECT COUNT(*) FROM board_likes WHERE board_id = ?)
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+
+    public BoardLikeBatchRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.id.worker-id:0}") int workerId
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = SnowflakeIdGenerator.forWorker(workerId);
+    }
+
+    /**
+     * @param changes 사용자 id → true: 좋아요 / false: 취소
+     * @return like_count 가 바뀌었으면 true (삭제된 게시글이면 반영하지 않고 false)
+     */
+    @Transactional
+    public boolean apply(long boardId, Map<Long, Boolean> changes) {
+        if (changes.isEmpty() || !isActive(boardId)) return false;
+
+        Timestamp now = Timestamp.valueOf(DateTimeUtil.nowUtc());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+
+        changes.forEach((userId, liked) -> {
+            if (liked) {
+                inserts.add(new Object[]{idGenerator.nextId(), boardId, userId, now, now});
+            } else {
+                deletes.add(new Object[]{boardId, userId});
+            }
+        });
+
+        int[] inserted = inserts.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        int[] deleted = deletes.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+
+        if (hasUnknown(inserted) || hasUnknown(deleted)) {
+            jdbcTemplate.update(RECOUNT_SQL, boardId, boardId);
+            return true;
+        }
+
+        int delta = sum(inserted) - sum(deleted);
+        if (delta == 0) return false;
+
+        jdbcTemplate.update(ADD_COUNT_SQL, delta, boardId);
+        return true;
+    }
+
+    /** soft delete 된 게시글은 BoardPurgeScheduler 가 좋아요를 정리하므로 새로 쓰지 않음 */
+    private boolean isActive(long boardId) {
+        return !jdbcTemplate.queryForList(
+                "SELECT id FROM boards WHERE id = ? AND deleted_at IS NULL", Long.class, boardId).isEmpty();
+    }
+
+    private static boolean hasUnknown(int[] counts) {
+        for (int count : counts) {
+            if (count == Statement.SUCCESS_NO_INFO) return true;
+        }
+        return false;
+    }
+
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+}
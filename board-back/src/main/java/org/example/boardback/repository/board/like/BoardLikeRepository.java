@@ -2,6 +2,16 @@ package org.example.boardback.repository.board.like;
 
 import org.example.boardback.entity.board.like.BoardLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
+
+    // BoardLikeStore cold start: 좋아요 사용자 id 만 조회 (uk_board_like_user 인덱스만으로 처리)
+    @Query("select l.user.id from BoardLike l where l.board.id = :boardId")
+    List<Long> findUserIdsByBoardId(@Param("boardId") Long boardId);
+
+    long countByBoardId(Long boardId);
 }
@@ -0,0 +1,10 @@
+package org.example.boardback.repository.board.projection;
+
+/**
+ * 카테고리별 게시글 수 (board_categories + board_category_stats)
+ */
+public interface BoardCategoryCountView {
+    Long getCategoryId();
+    String getCategoryName();
+    Long getBoardCount();
+}
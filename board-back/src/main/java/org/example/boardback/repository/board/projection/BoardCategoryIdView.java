@@ -0,0 +1,9 @@
+package org.example.boardback.repository.board.projection;
+
+/**
+ * 게시글 id → 카테고리 id 매핑 (트렌딩 집계 시 카테고리별 키 결정용)
+ */
+public interface BoardCategoryIdView {
+    Long getId();
+    Long getCategoryId();
+}
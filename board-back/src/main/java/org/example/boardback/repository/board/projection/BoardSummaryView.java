@@ -0,0 +1,28 @@
+package org.example.boardback.repository.board.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 인터페이스 프로젝션
+ * - Board 엔티티를 영속성 컨텍스트에 올리지 않고 요약 컬럼만 조회
+ * - 작성자 닉네임 / 카테고리명까지 JOIN 한 번으로 가져옴 (N+1 X)
+ * - 조회 쿼리의 select 별칭(alias) 과 getter 이름이 일치해야 함
+ */
+public interface BoardSummaryView {
+    Long getId();
+    String getTitle();
+    String getExcerpt();
+
+    Long getWriterId();
+    String getWriterNickname();
+
+    Long getCategoryId();
+    String getCategoryName();
+
+    Long getViewCount();
+    Integer getLikeCount();
+    Integer getCommentCount();
+    Boolean getPinned();
+
+    LocalDateTime getCreatedAt();
+}
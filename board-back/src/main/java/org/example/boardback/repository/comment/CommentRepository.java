@@ -2,6 +2,20 @@ package org.example.boardback.repository.comment;
 
 import org.example.boardback.entity.comment.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 댓글 목록 + 작성자 한 번에 패치 조인
+    @Query("""
+        select c
+        from Comment c
+            join fetch c.writer w
+        where c.board.id = :boardId
+        order by c.createdAt asc, c.id asc
+    """)
+    List<Comment> findWithWriterByBoardId(@Param("boardId") Long boardId);
 }
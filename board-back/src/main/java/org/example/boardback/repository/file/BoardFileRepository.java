@@ -1,13 +1,17 @@
 package org.example.boardback.repository.file;
 
 import org.example.boardback.entity.file.BoardFile;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface BoardFileRepository extends JpaRepository<BoardFile, Long> {
+    // 호출부에서 항상 fileInfo(다운로드 URL / 물리 파일 삭제)를 사용 → 함께 조회
+    @EntityGraph(attributePaths = "fileInfo")
     List<BoardFile> findByBoardIdOrderByDisplayOrderAsc(Long boardId);
 
+    @EntityGraph(attributePaths = "fileInfo")
     Optional<BoardFile> findByFileInfoId(Long fileId);
 }
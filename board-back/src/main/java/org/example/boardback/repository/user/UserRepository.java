@@ -4,6 +4,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import org.example.boardback.common.enums.user.AuthProvider;
 import org.example.boardback.entity.user.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,4 +29,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
         where u.username = :username
     """)
     Optional<User> findWithRolesByUsername(@Param("username") String username);
+
+    @EntityGraph(User.WITH_ROLES)
+    Optional<User> findWithRolesById(Long id);
 }
@@ -0,0 +1,67 @@
+package org.example.boardback.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * === BatchJobRunner ===
+ * 오래 걸리는 예약 작업 전용 실행기
+ * - 스케줄러 스레드는 작업을 넘기기만 하고 바로 반환 → 조회수 / 좋아요 반영 주기가 밀리지 않음
+ * - 같은 이름의 작업이 대기 / 실행 중이면 새 요청은 건너뜀 (실행 시간이 주기보다 길어져도 쌓이지 않음)
+ * - app.scheduling.batch-pool-size 개 스레드 (기본 2) → 무거운 작업끼리 DB 부하가 겹치는 것도 제한
+ */
+@Slf4j
+@Component
+public class BatchJobRunner {
+
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+
+    public BatchJobRunner(@Value("${app.scheduling.batch-pool-size:2}") int poolSize) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "board-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** @return 실행 대기열에 넣었으면 true, 같은 작업이 이미 대기 / 실행 중이면 false */
+    public boolean submit(String name, Runnable job) {
+        if (!activeJobs.add(name)) {
+            log.info("[BatchJob] {} 이미 실행 중 - 이번 주기 건너뜀", name);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    job.run();
+                } catch (Exception e) {
+                    log.error("[BatchJob] {} 실패", name, e);
+                } finally {
+                    activeJobs.remove(name);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(name);
+            log.warn("[BatchJob] {} 실행 거부 (종료 중)", name);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.boardback.scheduler.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.repository.board.BoardCategoryRepository;
+import org.example.boardback.repository.board.BoardCategoryStatRepository;
+import org.example.boardback.scheduler.BatchJobRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * === BoardCategoryStatReconcileScheduler ===
+ * - board_category_stats 카운터를 실제 COUNT 와 비교하여 드리프트 보정
+ * - 기동 완료 시 1회 실행 (신규 카테고리의 통계 행 생성 포함) + 주기 실행
+ * - 카테고리 1개씩 별도 트랜잭션으로 처리 (긴 락 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCategoryStatReconcileScheduler {
+
+    private final BatchJobRunner batchJobRunner;
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final BoardCategoryStatRepository boardCategoryStatRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.board.category-stats.reconcile-cron:0 10 * * * *}", zone = "Asia/Seoul")
+    public void schedule() {
+        batchJobRunner.submit("board-category-stat-reconcile", this::reconcile);
+    }
+
+    public void reconcile() {
+        try {
+            int inserted = boardCategoryStatRepository.insertMissingRows();
+
+            int fixed = 0;
+            for (BoardCategory category : boardCategoryRepository.findAll()) {
+                fixed += boardCategoryStatRepository.reconcile(category.getId());
+            }
+
+            if (inserted > 0 || fixed > 0) {
+                log.info("[BoardCategoryStatReconcile] 통계 행 생성 {}건, 보정 {}건", inserted, fixed);
+            }
+        } catch (Exception e) {
+            log.error("[BoardCategoryStatReconcile] 보정 실패 - 다음 주기에 재시도", e);
+        }
+    }
+}
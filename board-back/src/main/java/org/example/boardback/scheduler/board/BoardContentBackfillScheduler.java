@@ -0,0 +1,77 @@
+package org.example.boardback.scheduler.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.repository.board.BoardContentBackfillRepository;
+import org.example.boardback.repository.board.BoardContentBackfillRepository.PendingContent;
+import org.example.boardback.repository.board.BoardContentBackfillRepository.RenderedContent;
+import org.example.boardback.scheduler.BatchJobRunner;
+import org.example.boardback.service.board.cache.BoardListVersion;
+import org.example.boardback.service.board.content.BoardContentRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * === BoardContentBackfillScheduler ===
+ * - 렌더링 HTML / 일반 텍스트 미리보기가 없는 기존 글(rendered_html IS NULL)을 청크 단위로 채움
+ * - 청크마다 별도 트랜잭션 → 긴 락 / 긴 트랜잭션 방지
+ * - 새 글은 작성 / 수정 시점에 채워지므로 한 번 끝까지 처리하면 이후 실행은 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardContentBackfillScheduler {
+
+    private final BatchJobRunner batchJobRunner;
+    private final BoardContentBackfillRepository backfillRepository;
+    private final BoardListVersion boardListVersion;
+
+    @Value("${app.board.content.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    private volatile boolean completed = false;
+
+    @Scheduled(
+            initialDelayString = "${app.board.content.backfill-initial-delay-ms:30000}",
+            fixedDelayString = "${app.board.content.backfill-delay-ms:300000}"
+    )
+    public void schedule() {
+        batchJobRunner.submit("board-content-backfill", this::backfill);
+    }
+
+    public void backfill() {
+        if (completed) return;
+
+        long lastId = 0L;
+        int filled = 0;
+
+        try {
+            while (true) {
+                List<PendingContent> chunk = backfillRepository.findPendingAfter(lastId, chunkSize);
+                if (chunk.isEmpty()) break;
+
+                List<RenderedContent> rendered = chunk.stream()
+                        .map(c -> new RenderedContent(
+                                c.boardId(),
+                                BoardContentRenderer.excerpt(c.content()),
+                                BoardContentRenderer.html(c.content())
+                        ))
+                        .toList();
+
+                filled += backfillRepository.saveAll(rendered);
+                lastId = chunk.get(chunk.size() - 1).boardId();
+            }
+
+            completed = true;
+            if (filled > 0) {
+                boardListVersion.bump();
+                log.info("[BoardContentBackfill] 미리보기 / 렌더링 HTML 생성 {}건", filled);
+            }
+        } catch (Exception e) {
+            log.error("[BoardContentBackfill] 백필 실패 (lastId={}) - 다음 주기에 재시도", lastId, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.boardback.scheduler.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.scheduler.BatchJobRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * === BoardCounterReconcileScheduler ===
+ * - boards.like_count / comment_count 는 원자적 UPDATE 로 증감되지만
+ *   , 수동 DB 작업 / 장애 등으로 실제 개수와 어긋날(drift) 수 있음
+ * - 주기적으로 id 구간(chunk) 단위로 실제 COUNT 와 비교하여 다른 행만 보정
+ * - 구간마다 별도 트랜잭션 → 긴 락 / 긴 트랜잭션 방지
+ * - 카운터만 바뀌므로 목록 ETag(BoardListVersion)는 갱신하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCounterReconcileScheduler {
+
+    private final BatchJobRunner batchJobRunner;
+    private final BoardRepository boardRepository;
+
+    @Value("${app.board.counter.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    // 기본: 매일 새벽 4시 (KST)
+    @Scheduled(cron = "${app.board.counter.reconcile-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void schedule() {
+        batchJobRunner.submit("board-counter-reconcile", this::reconcile);
+    }
+
+    public void reconcile() {
+        long minId = boardRepository.findMinId();
+        long maxId = boardRepository.findMaxId();
+
+        int repaired = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+            repaired += boardRepository.reconcileCounters(fromId, fromId + chunkSize - 1);
+        }
+
+        if (repaired > 0) {
+            log.warn("[BoardCounterReconcile] 카운터 드리프트 보정: {}건", repaired);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.boardback.scheduler.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.config.datasource.DataSourceRouting;
+import org.example.boardback.repository.board.like.BoardLikeRepository;
+import org.example.boardback.scheduler.BatchJobRunner;
+import org.example.boardback.service.board.like.BoardLikeStore;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * === BoardLikeConsistencyScheduler ===
+ * - Redis 에 적재된 좋아요 집합 크기와 board_likes 실제 COUNT 비교
+ * - DB 미반영 변경이 남아 있는 게시글은 비교하지 않고 반영 대상으로 다시 표시 (dirty 표시 유실 대비)
+ * - 어긋난 게시글은 Redis 집합을 버림 → 다음 접근 시 DB 기준으로 다시 적재 (미반영 변경이 없을 때만)
+ * - TTL 로 만료된 게시글은 적재 목록에서 제거
+ * - boards.like_count ↔ board_likes 차이는 BoardCounterReconcileScheduler 가 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardLikeConsistencyScheduler {
+
+    private final BatchJobRunner batchJobRunner;
+    private final BoardLikeStore boardLikeStore;
+    private final BoardLikeRepository boardLikeRepository;
+
+    @Scheduled(
+            initialDelayString = "${app.board.like.check-initial-delay-ms:60000}",
+            fixedDelayString = "${app.board.like.check-delay-ms:600000}"
+    )
+    public void schedule() {
+        batchJobRunner.submit("board-like-consistency", this::check);
+    }
+
+    public void check() {
+        int[] mismatched = {0};
+
+        try {
+            boardLikeStore.forEachLoaded(boardId -> {
+                try {
+                    if (!isConsistent(boardId) && boardLikeStore.evictIfIdle(boardId)) {
+                        mismatched[0]++;
+                    }
+                } catch (Exception e) {
+                    log.warn("[BoardLikeConsistency] 점검 실패 (boardId={}): {}", boardId, e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.error("[BoardLikeConsistency] 점검 중단 - 다음 주기에 재시도", e);
+        }
+
+        if (mismatched[0] > 0) {
+            log.warn("[BoardLikeConsistency] Redis / DB 좋아요 불일치 {}건 - DB 기준으로 재적재", mismatched[0]);
+        }
+    }
+
+    private boolean isConsistent(long boardId) {
+        if (boardLikeStore.hasUnflushed(boardId)) {
+            boardLikeStore.markDirty(boardId);
+            return true;
+        }
+
+        Long cached = boardLikeStore.cachedCount(boardId);
+        if (cached == null) return true;
+
+        long actual = DataSourceRouting.primary(() -> boardLikeRepository.countByBoardId(boardId));
+        return cached == actual;
+    }
+}
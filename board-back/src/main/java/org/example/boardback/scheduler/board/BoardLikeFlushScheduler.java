@@ -0,0 +1,86 @@
+package org.example.boardback.scheduler.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.repository.board.like.BoardLikeBatchRepository;
+import org.example.boardback.service.board.cache.BoardDetailCache;
+import org.example.boardback.service.board.like.BoardLikeStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * === BoardLikeFlushScheduler ===
+ * - BoardLikeStore(Redis)에 쌓인 좋아요 / 취소 순변경을 주기적으로 board_likes 에 일괄 반영 (write-behind)
+ * - 변경분은 Redis 에 남아 있으므로 애플리케이션이 종료 / 장애로 내려가도 유실되지 않음 (다음 주기 / 다른 노드가 반영)
+ * - 게시글 단위 잠금 → 여러 노드가 같은 게시글을 동시에 반영하지 않음
+ * - 반영 실패 시 변경분을 되돌리고 다음 주기에 재시도
+ * - boards.like_count 가 바뀐 게시글은 상세 캐시 무효화
+ *   (목록 ETag 는 갱신하지 않음 → 목록의 좋아요 수는 BoardListVersion 의 counter-refresh 주기로 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardLikeFlushScheduler {
+
+    private final BoardLikeStore boardLikeStore;
+    private final BoardLikeBatchRepository boardLikeBatchRepository;
+    private final BoardDetailCache boardDetailCache;
+
+    @Value("${app.board.like.boards-per-flush:200}")
+    private int boardsPerFlush;
+
+    @Value("${app.board.like.flush-lock-timeout:30s}")
+    private Duration lockTimeout;
+
+    @Scheduled(fixedDelayString = "${app.board.like.flush-interval-ms:1000}")
+    public void flush() {
+        List<Long> boardIds;
+        try {
+            boardIds = boardLikeStore.popDirty(boardsPerFlush);
+        } catch (Exception e) {
+            log.error("[BoardLikeFlush] 반영 대상 조회 실패 - 다음 주기에 재시도", e);
+            return;
+        }
+
+        for (Long boardId : boardIds) {
+            try {
+                flushBoard(boardId);
+            } catch (Exception e) {
+                log.error("[BoardLikeFlush] 좋아요 반영 실패 (boardId={}) - 다음 주기에 재시도", boardId, e);
+            }
+        }
+    }
+
+    private void flushBoard(long boardId) {
+        // 다른 노드가 반영 중 → 다음 주기로 미룸
+        if (!boardLikeStore.lockFlush(boardId, lockTimeout)) {
+            boardLikeStore.markDirty(boardId);
+            return;
+        }
+
+        try {
+            Map<Long, Boolean> changes = boardLikeStore.drain(boardId);
+            if (changes.isEmpty()) return;
+
+            boolean changed;
+            try {
+                changed = boardLikeBatchRepository.apply(boardId, changes);
+            } catch (Exception e) {
+                boardLikeStore.restore(boardId);
+                throw e;
+            }
+            boardLikeStore.complete(boardId);
+
+            if (changed) {
+                boardDetailCache.evict(boardId);
+            }
+        } finally {
+            boardLikeStore.unlockFlush(boardId);
+        }
+    }
+}
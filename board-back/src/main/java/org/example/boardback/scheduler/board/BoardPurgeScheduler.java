@@ -0,0 +1,108 @@
+package org.example.boardback.scheduler.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.common.utils.DateTimeUtil;
+import org.example.boardback.repository.board.BoardPurgeRepository;
+import org.example.boardback.repository.board.BoardPurgeRepository.PurgeFile;
+import org.example.boardback.scheduler.BatchJobRunner;
+import org.example.boardback.service.board.like.BoardLikeStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * === BoardPurgeScheduler ===
+ * - 삭제(soft delete)된 게시글의 좋아요 / 댓글 / 첨부 파일 / 본문 / 게시글 행을 백그라운드에서 정리
+ * - 삭제 요청은 deleted_at UPDATE 한 번으로 끝나고, 실제 DELETE 는 여기서 chunk-size 행씩 나눠 실행
+ * - grace: 삭제 직후 진행 중인 요청(다운로드 등)이 끝날 시간을 두고 정리
+ * - 게시글 단위로 처리, 실패하면 로그만 남기고 다음 주기에 이어서 (이미 지운 행은 다시 지울 것이 없음)
+ * - 여러 노드가 동시에 실행해도 같은 행을 중복 삭제할 뿐 결과는 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardPurgeScheduler {
+
+    private final BatchJobRunner batchJobRunner;
+    private final BoardPurgeRepository purgeRepository;
+    private final BoardLikeStore boardLikeStore;
+
+    @Value("${app.board.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.board.purge.boards-per-run:100}")
+    private int boardsPerRun;
+
+    @Value("${app.board.purge.grace:1m}")
+    private Duration grace;
+
+    @Scheduled(
+            initialDelayString = "${app.board.purge.initial-delay-ms:60000}",
+            fixedDelayString = "${app.board.purge.delay-ms:60000}"
+    )
+    public void schedule() {
+        batchJobRunner.submit("board-purge", this::purge);
+    }
+
+    public void purge() {
+        List<Long> boardIds;
+        try {
+            boardIds = purgeRepository.findDeletedBefore(DateTimeUtil.nowUtc().minus(grace), boardsPerRun);
+        } catch (Exception e) {
+            log.error("[BoardPurge] 정리 대상 조회 실패 - 다음 주기에 재시도", e);
+            return;
+        }
+
+        int purged = 0;
+        for (Long boardId : boardIds) {
+            try {
+                purgeBoard(boardId);
+                purged++;
+            } catch (Exception e) {
+                log.error("[BoardPurge] 게시글 정리 실패 (boardId={}) - 다음 주기에 재시도", boardId, e);
+            }
+        }
+
+        if (purged > 0) {
+            log.info("[BoardPurge] 삭제된 게시글 {}건 정리", purged);
+        }
+    }
+
+    private void purgeBoard(long boardId) {
+        // chunk-size 보다 적게 지워지면 남은 행 없음
+        int deleted;
+        do {
+            deleted = purgeRepository.deleteLikes(boardId, chunkSize);
+        } while (deleted == chunkSize);
+
+        do {
+            deleted = purgeRepository.deleteComments(boardId, chunkSize);
+        } while (deleted == chunkSize);
+
+        List<PurgeFile> files;
+        do {
+            files = purgeRepository.findFiles(boardId, chunkSize);
+            purgeRepository.deleteFiles(files);
+            files.forEach(BoardPurgeScheduler::deletePhysicalFile);
+        } while (files.size() == chunkSize);
+
+        purgeRepository.deleteBoard(boardId);
+        // Redis 좋아요 집합 / 미반영 변경 (삭제된 게시글은 BoardLikeBatchRepository 가 반영하지 않음)
+        boardLikeStore.remove(boardId);
+    }
+
+    /** DB 행은 이미 커밋됨 → 실패해도 고아 파일만 남으므로 경고 후 계속 */
+    private static void deletePhysicalFile(PurgeFile file) {
+        try {
+            Files.deleteIfExists(Path.of(file.filePath()));
+        } catch (Exception e) {
+            log.warn("[BoardPurge] 파일 삭제 실패 (fileInfoId={}, path={})", file.fileInfoId(), file.filePath(), e);
+        }
+    }
+}
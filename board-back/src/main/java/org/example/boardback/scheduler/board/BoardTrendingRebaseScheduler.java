@@ -0,0 +1,44 @@
+package org.example.boardback.scheduler.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.repository.board.BoardCategoryRepository;
+import org.example.boardback.scheduler.BatchJobRunner;
+import org.example.boardback.service.board.trending.BoardTrendingRanker;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * === BoardTrendingRebaseScheduler ===
+ * - 트렌딩 점수의 기준 시각(epoch)을 주기적으로 현재로 옮겨 점수가 double 범위를 넘지 않게 유지
+ * - 모든 점수에 같은 비율을 곱하므로 순위는 변하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardTrendingRebaseScheduler {
+
+    private final BatchJobRunner batchJobRunner;
+    private final BoardTrendingRanker boardTrendingRanker;
+    private final BoardCategoryRepository boardCategoryRepository;
+
+    @Scheduled(cron = "${app.board.trending.rebase-cron:0 15 * * * *}", zone = "Asia/Seoul")
+    public void schedule() {
+        batchJobRunner.submit("board-trending-rebase", this::rebase);
+    }
+
+    public void rebase() {
+        try {
+            List<Long> categoryIds = boardCategoryRepository.findAll().stream()
+                    .map(BoardCategory::getId)
+                    .toList();
+
+            boardTrendingRanker.rebase(categoryIds);
+        } catch (Exception e) {
+            log.warn("[BoardTrendingRebase] 재기준 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
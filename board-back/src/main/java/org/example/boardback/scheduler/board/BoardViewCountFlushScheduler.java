@@ -0,0 +1,60 @@
+package org.example.boardback.scheduler.board;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.repository.board.BoardViewCountRepository;
+import org.example.boardback.service.board.cache.BoardDetailCache;
+import org.example.boardback.service.board.trending.BoardTrendingRanker;
+import org.example.boardback.service.board.view.BoardViewCountBuffer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * === BoardViewCountFlushScheduler ===
+ * - BoardViewCountBuffer 에 누적된 조회수를 주기적으로 DB 에 일괄 반영
+ * - 반영 주기(app.board.view-count.flush-interval-ms) = 장애 시 유실될 수 있는 최대 구간
+ * - 애플리케이션 종료 시 마지막으로 한 번 더 반영
+ * - DB 반영에 성공한 증가분은 트렌딩 순위(BoardTrendingRanker)에도 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewCountFlushScheduler {
+
+    private final BoardViewCountBuffer buffer;
+    private final BoardViewCountRepository boardViewCountRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardTrendingRanker boardTrendingRanker;
+
+    @Scheduled(fixedDelayString = "${app.board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = buffer.drain();
+        if (deltas.isEmpty()) return;
+
+        Map<Long, Long> applied;
+        try {
+            // 반영 중에 상세 캐시가 DB 에서 다시 채워지면 증가분이 두 번 더해지지 않도록 반영 전 상태를 기록
+            BoardDetailCache.ViewFlushSnapshot snapshot = boardDetailCache.beforeViewFlush(deltas.keySet());
+
+            // 없는 게시글의 증가분은 버림 (캐시 / 트렌딩에도 반영 X)
+            applied = boardViewCountRepository.increaseViewCounts(deltas);
+            boardDetailCache.applyViewCounts(applied, snapshot);
+        } catch (Exception e) {
+            log.error("[BoardViewCountFlush] 조회수 반영 실패 - 다음 주기에 재시도 ({}건)", deltas.size(), e);
+            buffer.restore(deltas);
+            return;
+        }
+
+        // 목록 ETag(BoardListVersion)는 갱신하지 않음 → 목록의 조회수는 counter-refresh 주기로 반영
+        boardTrendingRanker.recordViews(applied);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[BoardViewCountFlush] 종료 전 조회수 반영");
+        flush();
+    }
+}
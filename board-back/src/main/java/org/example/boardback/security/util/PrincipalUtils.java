@@ -5,6 +5,8 @@ import lombok.NoArgsConstructor;
 import org.example.boardback.common.enums.user.ErrorCode;
 import org.example.boardback.exception.BusinessException;
 import org.example.boardback.security.user.UserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
  * === PrincipalUtils ===
@@ -49,4 +51,31 @@ public final class PrincipalUtils {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
     }
+
+    /**
+     * SecurityContext 의 현재 로그인 사용자
+     * - 서비스 메서드 시그니처에 principal 이 없는 경우 사용 (예: 내가 쓴 글)
+     * - 인증 정보가 없거나 비활성 계정이면 validateActive 와 동일하게 예외
+     */
+    public static UserPrincipal currentPrincipal() {
+        UserPrincipal principal = currentPrincipalOrNull();
+        validateActive(principal);
+        return principal;
+    }
+
+    /** ROLE_ADMIN 보유 여부 */
+    public static boolean isAdmin(UserPrincipal principal) {
+        return principal != null && principal.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
+    /** 비로그인(익명) 요청이면 null */
+    public static UserPrincipal currentPrincipalOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
 }
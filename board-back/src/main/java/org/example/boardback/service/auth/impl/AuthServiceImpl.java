@@ -146,8 +146,8 @@ public class AuthServiceImpl implements AuthService {
         // 토큰에서 username 꺼내기
         String username = jwtProvider.getUsernameFromJwt(refreshToken);
 
-        // DB에서 해당 유저의 RefreshToken 레코드 조회
-        User user = userRepository.findByUsername(username)
+        // DB에서 해당 유저의 RefreshToken 레코드 조회 (권한은 아래 principal 변환에 사용 → 함께 조회)
+        User user = userRepository.findWithRolesByUsername(username)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         RefreshToken stored = refreshTokenRepository.findByUser(user)
@@ -0,0 +1,7 @@
+package org.example.boardback.service.board;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface BoardExportService {
+    StreamingResponseBody exportBoards();
+}
@@ -0,0 +1,11 @@
+package org.example.boardback.service.board;
+
+import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.board.response.BoardImportResultDto;
+import org.example.boardback.service.board.bulk.BoardImportFormat;
+
+import java.io.InputStream;
+
+public interface BoardImportService {
+    ResponseDto<BoardImportResultDto> importBoards(InputStream in, BoardImportFormat format);
+}
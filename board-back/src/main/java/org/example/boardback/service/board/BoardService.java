@@ -22,5 +22,6 @@ public interface BoardService {
     ResponseDto<PageBoardResponseDto> getBoardsByPage(@Valid PageBoardRequestDto request);
     ResponseDto<BoardListResponseDto> getMyBoards();
 
-    ResponseDto<Void> increaseViewCount(Long boardId);
+    ResponseDto<BoardListResponseDto> getTrendingBoards(Long categoryId, int size);
+    ResponseDto<Void> increaseViewCount(Long boardId, String clientIp);
 }
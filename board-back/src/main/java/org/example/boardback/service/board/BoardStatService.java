@@ -1,6 +1,7 @@
 package org.example.boardback.service.board;
 
 import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.board.response.BoardCategoryCountResponseDto;
 import org.example.boardback.dto.board.response.DailyBoardStatResponseDto;
 import org.example.boardback.dto.board.response.GenderBoardStatResponseDto;
 import org.example.boardback.dto.board.response.MonthlyBoardStatResponseDto;
@@ -9,4 +10,5 @@ public interface BoardStatService {
     ResponseDto<DailyBoardStatResponseDto> dailyStats();
     ResponseDto<MonthlyBoardStatResponseDto> monthlyStats();
     ResponseDto<GenderBoardStatResponseDto> genderStats();
+    ResponseDto<BoardCategoryCountResponseDto> categoryCounts();
 }
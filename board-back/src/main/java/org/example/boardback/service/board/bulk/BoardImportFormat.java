@@ -0,0 +1,21 @@
+package org.example.boardback.service.board.bulk;
+
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.exception.BusinessException;
+import org.springframework.http.MediaType;
+
+/** 게시글 가져오기 입력 형식 (요청 Content-Type 으로 결정) */
+public enum BoardImportFormat {
+    NDJSON,
+    CSV;
+
+    public static BoardImportFormat from(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) return NDJSON;
+            if (mediaType.isCompatibleWith(MediaType.valueOf("text/csv"))) return CSV;
+        }
+        throw new BusinessException(ErrorCode.INVALID_TYPE,
+                "지원하지 않는 형식입니다. (application/x-ndjson 또는 text/csv)");
+    }
+}
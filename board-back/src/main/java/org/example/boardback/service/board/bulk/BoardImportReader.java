@@ -0,0 +1,182 @@
+package org.example.boardback.service.board.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.boardback.dto.board.request.BoardImportRowDto;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * === BoardImportReader ===
+ * 요청 본문(InputStream)을 한 행씩 읽어 BoardImportRowDto 로 변환
+ *
+ * - 전체를 메모리에 올리지 않음: 호출 측이 next() 를 부를 때만 스트림을 읽음
+ * - NDJSON: 한 줄 = JSON 객체 1개 (빈 줄 무시)
+ * - CSV: RFC 4180 (큰따옴표 필드 / "" 이스케이프 / 필드 내 줄바꿈), 첫 레코드는 헤더
+ *   헤더: title,content,writerId,categoryId[,viewCount][,createdAt]
+ *   열 개수가 헤더와 다른 행은 거부 (따옴표 없는 쉼표로 값이 밀린 행을 그대로 저장하지 않도록)
+ * - 입력 맨 앞의 UTF-8 BOM 은 무시
+ * - 형식 오류는 예외 대신 Row.error 로 반환 → 해당 행만 거부하고 계속 진행
+ */
+public final class BoardImportReader implements Closeable {
+
+    /** line: 원본 줄 번호 (CSV 는 레코드 시작 줄) */
+    public record Row(long line, BoardImportRowDto value, String error) {}
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String BOM = "\uFEFF";
+
+    private final BufferedReader reader;
+    private final BoardImportFormat format;
+    private final ObjectReader jsonReader;
+
+    private long line = 0;
+    private Map<String, Integer> csvColumns;
+    private int csvHeaderSize;
+
+    public BoardImportReader(InputStream in, BoardImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(BoardImportRowDto.class);
+    }
+
+    /** 다음 행 (입력 끝이면 null) */
+    public Row next() throws IOException {
+        return format == BoardImportFormat.NDJSON ? nextJson() : nextCsv();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ============================================================
+    // NDJSON
+    // ============================================================
+
+    private Row nextJson() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (line == 1 && text.startsWith(BOM)) text = text.substring(1);
+            if (text.isBlank()) continue;
+
+            try {
+                return new Row(line, jsonReader.readValue(text), null);
+            } catch (IOException e) {
+                return new Row(line, null, "JSON 형식 오류");
+            }
+        }
+        return null;
+    }
+
+    // ============================================================
+    // CSV
+    // ============================================================
+
+    private Row nextCsv() throws IOException {
+        if (csvColumns == null) {
+            List<String> header = readCsvRecord();
+            if (header == null) return null;
+
+            csvColumns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                csvColumns.put(header.get(i).trim().replace(BOM, ""), i);
+            }
+            csvHeaderSize = header.size();
+        }
+
+        while (true) {
+            long startLine = line + 1;
+            List<String> fields = readCsvRecord();
+            if (fields == null) return null;
+            if (fields.size() == 1 && fields.get(0).isBlank()) continue;
+            if (fields.size() != csvHeaderSize) {
+                return new Row(startLine, null,
+                        "CSV 열 개수 불일치 (헤더 " + csvHeaderSize + "개, 행 " + fields.size() + "개)");
+            }
+
+            try {
+                return new Row(startLine, new BoardImportRowDto(
+                        field(fields, "title"),
+                        field(fields, "content"),
+                        toLong(field(fields, "writerId")),
+                        toLong(field(fields, "categoryId")),
+                        toLong(field(fields, "viewCount")),
+                        toInstant(field(fields, "createdAt"))
+                ), null);
+            } catch (RuntimeException e) {
+                return new Row(startLine, null, "CSV 값 형식 오류");
+            }
+        }
+    }
+
+    private String field(List<String> fields, String name) {
+        Integer index = csvColumns.get(name);
+        return index == null ? null : fields.get(index);
+    }
+
+    private static Long toLong(String value) {
+        return value == null || value.isBlank() ? null : Long.valueOf(value.trim());
+    }
+
+    private static Instant toInstant(String value) {
+        return value == null || value.isBlank() ? null : Instant.parse(value.trim());
+    }
+
+    /** 레코드 1개 (입력 끝이면 null) */
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        line++;
+
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) reader.reset();
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+}
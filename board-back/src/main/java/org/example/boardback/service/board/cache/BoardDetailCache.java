@@ -0,0 +1,484 @@
+package org.example.boardback.service.board.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.dto.board.response.BoardResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * === BoardDetailCache ===
+ * 게시글 상세(BoardResponseDto) 2단계 캐시
+ *
+ * - L1: 노드 로컬 Caffeine (W-TinyLFU, 최대 local-max-size 건, 항목별 TTL = local-ttl ± 10% 지터)
+ * - L2: Redis Hash "board:detail:{id}" (body: JSON, views: 채운 뒤 반영된 조회수 증가분, gen: 세대, redis-ttl)
+ *   : 조회수 배치 반영 시 views 만 HINCRBY → L1 이 비거나 다른 노드가 L2 에서 채워도 조회수가 줄어들지 않음
+ *   : gen = 무효화 / 채우기마다 1 증가. 무효화는 키를 지우지 않고 gen 만 남긴 빈 해시(tombstone)로 바꿈
+ *     → DB 조회 전에 읽은 gen 과 같을 때만 채움 (다른 노드의 무효화 이후 이전 값이 redis-ttl 동안 남는 일 방지)
+ * - 조회: L1 → L2 → DB(loader) 순서, 하위 단계에서 읽은 값은 상위 단계에 채움
+ * - 무효화: 트랜잭션 커밋 후 L1 삭제 / L2 tombstone + "board:detail:invalidate" 채널 발행
+ *   → 모든 노드가 자신의 L1 에서 해당 글을 제거
+ * - Redis 장애 시 L2 / 발행을 건너뛰고 DB 로 동작 (다른 노드의 L1 은 TTL 까지 유지)
+ *
+ * == 요청 병합(single-flight) ==
+ * - L1 miss 시 게시글별 진행 중 CompletableFuture 를 inFlight 에 등록한 첫 요청만 L2 / DB 를 조회
+ * - 같은 글에 대한 동시 요청은 같은 future 의 결과(또는 예외)를 기다림 → 인기 글 만료 시에도 DB 조회 1회
+ *
+ * == 확률적 조기 갱신(XFetch) ==
+ * - L2 값에 만료 시각(expiresAt)과 DB 조회 소요 시간(delta)을 함께 저장
+ * - L1 hit 때마다 now - delta * beta * ln(rand) >= expiresAt 이면 백그라운드에서 DB 재조회 후 L1 / L2 갱신
+ *   → 만료가 가까울수록, 조회 비용이 클수록 갱신 확률이 높아져 만료 순간 DB 로 몰리는 요청이 없어짐
+ *
+ * 지표: cache.gets{cache=boardDetail,result=hit|miss}, cache.evictions{cache=boardDetail},
+ *       board.detail.cache.redis{result=hit|miss}, board.detail.cache.coalesced, board.detail.cache.early-refresh
+ */
+@Slf4j
+@Component
+public class BoardDetailCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "board:detail:invalidate";
+    private static final String KEY_PREFIX = "board:detail:";
+    private static final String BODY_FIELD = "body";
+    private static final String VIEWS_FIELD = "views";
+    private static final String GEN_FIELD = "gen";
+
+    // KEYS[1]=key, ARGV[1]=JSON, ARGV[2]=ttl(ms), ARGV[3]=DB 조회 전에 읽은 gen
+    // gen 이 그대로일 때만 이전 값(증가분 포함)을 지우고 새로 채움 → 0: 그 사이 무효화 / 다른 채우기가 있었음
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            local gen = tonumber(redis.call('HGET', KEYS[1], 'gen') or '0')
+            if gen ~= tonumber(ARGV[3]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'body', ARGV[1], 'views', 0, 'gen', gen + 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=key, ARGV[1]=ttl(ms): 본문을 지우고 gen + 1 만 남김 (진행 중인 이전 세대의 채우기를 거부)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local gen = tonumber(redis.call('HGET', KEYS[1], 'gen') or '0')
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'gen', gen + 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return gen + 1
+            """, Long.class);
+
+    // KEYS[1]=key, ARGV[1]=증가분, ARGV[2]=DB 반영 전에 읽은 gen, ARGV[3]=ttl(ms)
+    // 캐시된 글에만 반영 (tombstone / 없는 키에는 쓰지 않음, TTL 유지)
+    // gen 이 다르면 DB 반영 중에 다시 채워진 값 → 증가분 포함 여부를 모르므로 tombstone 으로 바꿈 (-1)
+    private static final byte[] ADD_VIEWS_SCRIPT = """
+            if redis.call('HEXISTS', KEYS[1], 'body') == 0 then
+                return 0
+            end
+            local gen = tonumber(redis.call('HGET', KEYS[1], 'gen') or '0')
+            if gen == tonumber(ARGV[2]) then
+                return redis.call('HINCRBY', KEYS[1], 'views', ARGV[1])
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'gen', gen + 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return -1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /** L1 / L2 에 저장하는 값 (expiresAt: L2 만료 시각 epoch ms, deltaMillis: DB 조회 소요 시간) */
+    record CachedBoard(BoardResponseDto value, long expiresAt, long deltaMillis) {
+        CachedBoard withValue(BoardResponseDto value) {
+            return new CachedBoard(value, expiresAt, deltaMillis);
+        }
+    }
+
+    /** L2 조회 결과 (cached: 본문 없으면 null, generation: Redis 장애로 모르면 null → 채우지 않음) */
+    private record RedisEntry(CachedBoard cached, Long generation) {}
+
+    /**
+     * 조회수 DB 반영 직전의 캐시 상태 (beforeViewFlush → applyViewCounts)
+     * - entries: 그 시점의 L1 항목 (없으면 null), generations: L2 gen (Redis 장애 시 비어 있음)
+     */
+    public static final class ViewFlushSnapshot {
+        private final Map<Long, CachedBoard> entries;
+        private final Map<Long, Long> generations;
+
+        private ViewFlushSnapshot(Map<Long, CachedBoard> entries, Map<Long, Long> generations) {
+            this.entries = entries;
+            this.generations = generations;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final double earlyRefreshBeta;
+
+    private final Cache<Long, CachedBoard> local;
+    private final Map<Long, CompletableFuture<CachedBoard>> inFlight = new ConcurrentHashMap<>();
+
+    // 무효화 세대: 조회 중 무효화가 일어나면 조회 결과를 캐시에 넣지 않음 (이전 값이 다시 채워지는 것 방지)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "board-detail-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter coalesced;
+    private final Counter earlyRefreshes;
+
+    public BoardDetailCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${app.board.cache.local-max-size:10000}") long localMaxSize,
+            @Value("${app.board.cache.local-ttl:30s}") Duration localTtl,
+            @Value("${app.board.cache.redis-ttl:5m}") Duration redisTtl,
+            @Value("${app.board.cache.early-refresh-beta:1.0}") double earlyRefreshBeta
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(jitteredTtl(localTtl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "boardDetail");
+        this.redisHits = meterRegistry.counter("board.detail.cache.redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("board.detail.cache.redis", "result", "miss");
+        this.coalesced = meterRegistry.counter("board.detail.cache.coalesced");
+        this.earlyRefreshes = meterRegistry.counter("board.detail.cache.early-refresh");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 조회
+     * - loader 는 트랜잭션 / 요청 컨텍스트 없이도 동작해야 함 (조기 갱신은 백그라운드 스레드에서 실행)
+     */
+    public BoardResponseDto get(Long boardId, Function<Long, BoardResponseDto> loader) {
+        CachedBoard cached = local.getIfPresent(boardId);
+
+        if (cached != null) {
+            if (shouldRefreshEarly(cached)) {
+                refreshAsync(boardId, loader);
+            }
+            return cached.value();
+        }
+
+        return load(boardId, loader, false).value();
+    }
+
+    /**
+     * 무효화
+     * - 트랜잭션 안이면 커밋 이후에 실행 (커밋 전에 지우면 다른 요청이 이전 값을 다시 채울 수 있음)
+     */
+    public void evict(Long boardId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(boardId);
+                }
+            });
+        } else {
+            evictNow(boardId);
+        }
+    }
+
+    /**
+     * 조회수 DB 반영 직전에 호출 → applyViewCounts 에 전달
+     * - L1 항목과 L2 gen(파이프라인 HGET 1회)을 기록해 두고, 반영 중에 다시 채워진 값을 구분하는 데 사용
+     */
+    public ViewFlushSnapshot beforeViewFlush(Collection<Long> boardIds) {
+        List<Long> ids = List.copyOf(boardIds);
+
+        Map<Long, CachedBoard> entries = new HashMap<>();
+        ids.forEach(boardId -> entries.put(boardId, local.asMap().get(boardId)));
+
+        Map<Long, Long> generations = new HashMap<>();
+        try {
+            List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                ids.forEach(boardId -> connection.hashCommands().hGet(
+                        (KEY_PREFIX + boardId).getBytes(StandardCharsets.UTF_8),
+                        GEN_FIELD.getBytes(StandardCharsets.UTF_8)
+                ));
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                Object value = values.get(i);
+                generations.put(ids.get(i), value == null ? 0L : Long.parseLong(value.toString()));
+            }
+        } catch (Exception e) {
+            log.warn("[BoardDetailCache] Redis gen 조회 실패 ({}건): {}", ids.size(), e.getMessage());
+        }
+
+        return new ViewFlushSnapshot(entries, generations);
+    }
+
+    /**
+     * 조회수 배치 반영 후 L1 / L2 값에도 증가분 반영
+     * - 상세 조회수 = 캐시 값 + 아직 반영되지 않은 버퍼 값 이므로, 반영된 만큼 캐시 값을 올려야 줄어들지 않음
+     * - DB 반영 중에 다시 채워진 값은 증가분이 이미 포함됐을 수 있으므로 더하지 않고 제거 (중복 집계 방지)
+     *   : L1 은 snapshot 의 항목과 같은 객체일 때만, L2 는 gen 이 그대로일 때만 증가
+     * - L2: 게시글별 스크립트를 파이프라인 1회로 전송 (본문 JSON 은 다시 쓰지 않음)
+     * - 다른 노드의 L1 은 TTL 이내에 L2 값으로 다시 채워짐
+     */
+    public void applyViewCounts(Map<Long, Long> deltas, ViewFlushSnapshot snapshot) {
+        if (deltas.isEmpty()) return;
+
+        deltas.forEach((boardId, delta) -> {
+            CachedBoard before = snapshot.entries.get(boardId);
+            local.asMap().computeIfPresent(boardId,
+                    (id, cached) -> cached == before ? withExtraViews(cached, delta) : null);
+        });
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltas.forEach((boardId, delta) -> connection.scriptingCommands().eval(
+                        ADD_VIEWS_SCRIPT,
+                        ReturnType.INTEGER,
+                        1,
+                        (KEY_PREFIX + boardId).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(delta).getBytes(StandardCharsets.UTF_8),
+                        // gen 을 모르면 -1 → 항상 tombstone
+                        String.valueOf(snapshot.generations.getOrDefault(boardId, -1L)).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(redisTtl.toMillis()).getBytes(StandardCharsets.UTF_8)
+                ));
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영하지 못한 L2 값은 redis-ttl 이내에 만료 후 DB 에서 다시 채워짐
+            log.warn("[BoardDetailCache] Redis 조회수 반영 실패 ({}건): {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    /** 다른 노드(자기 자신 포함)에서 발행한 무효화 메시지 → L1 제거 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidateLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("[BoardDetailCache] 잘못된 무효화 메시지: {}", body);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // ============================================================
+    // 조회 (single-flight)
+    // ============================================================
+
+    /**
+     * 게시글별로 하나의 조회만 실행하고 나머지 동시 요청은 그 결과를 공유
+     * @param skipRedis 조기 갱신: L2 값도 곧 만료되므로 DB 에서 다시 읽음
+     */
+    private CachedBoard load(Long boardId, Function<Long, BoardResponseDto> loader, boolean skipRedis) {
+        CompletableFuture<CachedBoard> mine = new CompletableFuture<>();
+        CompletableFuture<CachedBoard> running = inFlight.putIfAbsent(boardId, mine);
+
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        try {
+            // L1 확인 이후 ~ 등록 사이에 다른 요청의 조회가 끝났을 수 있으므로 한 번 더 확인 (통계 미집계 조회)
+            CachedBoard present = skipRedis ? null : local.asMap().get(boardId);
+            if (present != null) {
+                mine.complete(present);
+                return present;
+            }
+
+            long generation = invalidations.get();
+
+            // 조기 갱신도 L2 gen 은 읽음 (DB 조회 이후 조건부 채우기 기준)
+            RedisEntry entry = readRedis(boardId);
+            CachedBoard loaded = skipRedis ? null : entry.cached();
+            boolean written = true;
+            if (loaded != null) {
+                redisHits.increment();
+            } else {
+                if (!skipRedis) redisMisses.increment();
+                loaded = loadFromDatabase(boardId, loader);
+
+                // 그 사이 다른 노드에서 무효화 / 채우기가 있었으면 L1 에도 넣지 않음 (이번 요청에만 사용)
+                if (generation == invalidations.get() && entry.generation() != null) {
+                    written = writeRedis(boardId, loaded, entry.generation());
+                }
+            }
+
+            if (written && generation == invalidations.get()) local.put(boardId, loaded);
+
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(boardId, mine);
+        }
+    }
+
+    private CachedBoard loadFromDatabase(Long boardId, Function<Long, BoardResponseDto> loader) {
+        long startedAt = System.currentTimeMillis();
+        BoardResponseDto value = loader.apply(boardId);
+        long now = System.currentTimeMillis();
+
+        return new CachedBoard(value, now + redisTtl.toMillis(), Math.max(1, now - startedAt));
+    }
+
+    private CachedBoard await(CompletableFuture<CachedBoard> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /** XFetch: now - delta * beta * ln(rand) >= expiresAt (ln(rand) < 0 이므로 만료 시각을 앞당겨 판단) */
+    private boolean shouldRefreshEarly(CachedBoard cached) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double gap = -cached.deltaMillis() * earlyRefreshBeta * Math.log(random);
+
+        return System.currentTimeMillis() + gap >= cached.expiresAt();
+    }
+
+    private void refreshAsync(Long boardId, Function<Long, BoardResponseDto> loader) {
+        if (inFlight.containsKey(boardId)) return;
+
+        earlyRefreshes.increment();
+        refreshExecutor.execute(() -> {
+            try {
+                load(boardId, loader, true);
+            } catch (Exception e) {
+                // 삭제된 글 등: 기존 값은 TTL / 무효화로 정리됨
+                log.debug("[BoardDetailCache] 조기 갱신 실패 - boardId={}: {}", boardId, e.getMessage());
+            }
+        });
+    }
+
+    // ============================================================
+    // 무효화 / Redis
+    // ============================================================
+
+    private void evictNow(Long boardId) {
+        invalidateLocal(boardId);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + boardId), String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(boardId));
+        } catch (Exception e) {
+            log.warn("[BoardDetailCache] Redis 무효화 실패 - boardId={}: {}", boardId, e.getMessage());
+        }
+    }
+
+    private void invalidateLocal(Long boardId) {
+        invalidations.incrementAndGet();
+        local.invalidate(boardId);
+    }
+
+    private RedisEntry readRedis(Long boardId) {
+        try {
+            List<Object> fields = redisTemplate.opsForHash()
+                    .multiGet(KEY_PREFIX + boardId, List.of(BODY_FIELD, VIEWS_FIELD, GEN_FIELD));
+            if (fields == null) return new RedisEntry(null, null);
+
+            long generation = fields.get(2) == null ? 0L : Long.parseLong((String) fields.get(2));
+            if (fields.get(0) == null) return new RedisEntry(null, generation);
+
+            CachedBoard cached = objectMapper.readValue((String) fields.get(0), CachedBoard.class);
+            long views = fields.get(1) == null ? 0L : Long.parseLong((String) fields.get(1));
+            return new RedisEntry(views == 0 ? cached : withExtraViews(cached, views), generation);
+        } catch (Exception e) {
+            log.warn("[BoardDetailCache] Redis 조회 실패 - boardId={}: {}", boardId, e.getMessage());
+            return new RedisEntry(null, null);
+        }
+    }
+
+    /** @return false: L2 의 gen 이 조회 전에 읽은 값과 달라 채우지 않음 (Redis 장애는 true → L1 만 사용) */
+    private boolean writeRedis(Long boardId, CachedBoard cached, long expectedGeneration) {
+        try {
+            Long written = redisTemplate.execute(
+                    WRITE_SCRIPT,
+                    List.of(KEY_PREFIX + boardId),
+                    objectMapper.writeValueAsString(cached),
+                    String.valueOf(redisTtl.toMillis()),
+                    String.valueOf(expectedGeneration)
+            );
+            return !Long.valueOf(0L).equals(written);
+        } catch (Exception e) {
+            log.warn("[BoardDetailCache] Redis 저장 실패 - boardId={}: {}", boardId, e.getMessage());
+            return true;
+        }
+    }
+
+    private static CachedBoard withExtraViews(CachedBoard cached, long views) {
+        return cached.withValue(cached.value().withViewCount(cached.value().viewCount() + views));
+    }
+
+    /** 같은 시점에 채워진 항목들이 한꺼번에 만료되지 않도록 ±10% 지터 */
+    private static Expiry<Long, CachedBoard> jitteredTtl(Duration ttl) {
+        long base = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long key, CachedBoard value, long currentTime) {
+                long jitter = base / 10;
+                return base - jitter + ThreadLocalRandom.current().nextLong(2 * jitter + 1);
+            }
+
+            // 재조회 / 조회수 반영으로 값이 바뀌면 TTL 을 다시 시작 (최신성은 무효화 메시지 + 조기 갱신으로 보장)
+            @Override
+            public long expireAfterUpdate(Long key, CachedBoard value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(Long key, CachedBoard value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.boardback.service.board.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.event.board.BoardChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * === BoardListVersion ===
+ * 게시글 목록(페이지 / 카테고리) ETag 용 전역 버전 (Redis "board:list:version")
+ *
+ * - 목록 구성이 바뀌는 변경(작성 / 수정 / 삭제 / 댓글 / 고정 / 가져오기 / 미리보기 백필) 커밋 후 버전 증가
+ * - 조회수 / 좋아요 배치 반영, 카운터 보정처럼 카운터만 바뀌는 반영은 버전을 올리지 않음
+ *   : 초 단위로 반복되어 304 가 거의 나오지 않으므로, 대신 ETag 에 counter-refresh 주기 구간을 포함
+ *     → 목록의 카운터는 최대 counter-refresh 만큼 늦게 보일 수 있음
+ * - 버전 값 = 마지막 변경 시각(ms, 단조 증가) → 변경 후 레플리카 지연(read-your-writes 창) 동안은 ETag 생략
+ *   : 새 버전으로 레플리카의 이전 목록을 태깅해 클라이언트가 오래된 목록을 계속 재사용하지 않도록
+ * - 목록 조회 전 ETag 만 계산해 If-None-Match 와 비교 → 같으면 DB 조회 / 직렬화 없이 304 (BoardEtagInterceptor)
+ * - Redis 장애 시 null 반환 → ETag 없이 일반 응답
+ */
+@Slf4j
+@Component
+public class BoardListVersion {
+
+    private static final String KEY = "board:list:version";
+
+    // KEYS[1]=key, ARGV[1]=현재 시각(ms): max(현재 시각, 이전 버전 + 1) 로 갱신 (노드 간 시계 차이에도 감소하지 않음)
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local next = tonumber(ARGV[1])
+            if next <= current then next = current + 1 end
+            redis.call('SET', KEYS[1], string.format('%d', next))
+            return next
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long replicaLagMillis;
+    private final long counterRefreshMillis;
+
+    public BoardListVersion(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.datasource.read-your-writes:3s}") Duration replicaLag,
+            @Value("${app.board.list.counter-refresh:60s}") Duration counterRefresh
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.replicaLagMillis = replicaLag.toMillis();
+        this.counterRefreshMillis = Math.max(1, counterRefresh.toMillis());
+    }
+
+    /**
+     * 목록 ETag 값 ("{버전}-{카운터 구간}")
+     * @return null: Redis 장애 또는 최근 변경(레플리카 미반영 가능) → ETag 생략
+     */
+    public String current() {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY);
+            long version = value != null ? Long.parseLong(value) : increment();
+
+            long now = System.currentTimeMillis();
+            if (now - version < replicaLagMillis) return null;
+
+            return version + "-" + now / counterRefreshMillis;
+        } catch (Exception e) {
+            log.warn("[BoardListVersion] 버전 조회 실패 - ETag 생략", e);
+            return null;
+        }
+    }
+
+    /** 목록 변경 알림 (트랜잭션 안이면 커밋 후 실행) */
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeIncrement();
+                }
+            });
+        } else {
+            safeIncrement();
+        }
+    }
+
+    /** 작성 / 수정 / 삭제 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        safeIncrement();
+    }
+
+    private void safeIncrement() {
+        try {
+            increment();
+        } catch (Exception e) {
+            // 실패해도 다음 변경 시 버전이 다시 올라가며, 그 사이 목록 ETag 만 갱신되지 않음
+            log.warn("[BoardListVersion] 버전 증가 실패", e);
+        }
+    }
+
+    private long increment() {
+        Long version = redisTemplate.execute(BUMP_SCRIPT, List.of(KEY), String.valueOf(System.currentTimeMillis()));
+        if (version == null) throw new IllegalStateException("목록 버전 갱신 결과 없음");
+        return version;
+    }
+}
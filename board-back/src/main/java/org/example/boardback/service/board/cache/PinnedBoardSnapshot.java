@@ -0,0 +1,102 @@
+package org.example.boardback.service.board.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.dto.board.response.BoardSummaryDto;
+import org.example.boardback.dto.board.response.PinnedBoardListResponseDto;
+import org.example.boardback.repository.board.BoardRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * === PinnedBoardSnapshot ===
+ * 고정 게시글 목록의 불변 스냅샷 (copy-on-write)
+ *
+ * - 조회: volatile 참조 읽기 1회 (DB / 트랜잭션 / 락 없음)
+ * - 변경: 고정 / 해제 / 고정 글 수정·삭제 커밋 후 목록을 새로 만들어 참조를 통째로 교체
+ *   + "board:pinned:changed" 채널 발행 → 다른 노드도 다시 읽어 교체
+ * - 기동 완료 시 1회 생성, 목록에 포함된 조회수 / 좋아요 / 댓글 수는 refresh-interval 마다 갱신
+ */
+@Slf4j
+@Component
+public class PinnedBoardSnapshot implements MessageListener {
+
+    public static final String CHANGED_CHANNEL = "board:pinned:changed";
+
+    private final BoardRepository boardRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private volatile PinnedBoardListResponseDto snapshot = new PinnedBoardListResponseDto(List.of());
+
+    public PinnedBoardSnapshot(
+            BoardRepository boardRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.boardRepository = boardRepository;
+        this.redisTemplate = redisTemplate;
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    public PinnedBoardListResponseDto get() {
+        return snapshot;
+    }
+
+    /** 고정 상태 / 고정 글 내용 변경 시 호출 (트랜잭션 안이면 커밋 후 실행) */
+    public void changed() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadAndPublish();
+                }
+            });
+        } else {
+            reloadAndPublish();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${app.board.pinned.refresh-interval-ms:60000}",
+            fixedDelayString = "${app.board.pinned.refresh-interval-ms:60000}"
+    )
+    // 동시에 여러 번 호출되어도 늦게 시작한 조회 결과가 먼저 끝난 결과를 덮어쓰지 않도록 직렬화
+    public synchronized void reload() {
+        try {
+            List<BoardSummaryDto> pinned = boardRepository.findPinnedSummaries().stream()
+                    .map(BoardSummaryDto::from)
+                    .toList();
+
+            snapshot = new PinnedBoardListResponseDto(pinned);
+        } catch (Exception e) {
+            log.warn("[PinnedBoardSnapshot] 고정 게시글 조회 실패 - 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    /** 다른 노드(자기 자신 포함)에서 발행한 변경 알림 → 다시 읽기 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload();
+    }
+
+    private void reloadAndPublish() {
+        reload();
+        try {
+            redisTemplate.convertAndSend(CHANGED_CHANNEL, "reload");
+        } catch (Exception e) {
+            log.warn("[PinnedBoardSnapshot] 변경 알림 발행 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.boardback.service.board.content;
+
+import org.example.boardback.entity.board.Board;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * === BoardContentRenderer ===
+ * - 작성 / 수정 시 1회만 실행하여 결과를 저장 (조회 시에는 컬럼 값을 그대로 사용)
+ * - excerpt: 공백을 정리한 일반 텍스트 미리보기 (최대 Board.EXCERPT_LENGTH 글자)
+ * - html: 본문(일반 텍스트)을 HTML 이스케이프 후 문단(<p>) / 줄바꿈(<br>) / http(s) 링크만 생성
+ *         → 사용자 입력이 태그로 해석될 여지가 없으므로 프론트에서 그대로 렌더링해도 안전
+ */
+public final class BoardContentRenderer {
+
+    private static final Pattern URL = Pattern.compile("https?://[^\\s<>\"']+");
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+    private static final String ELLIPSIS = "…";
+
+    private BoardContentRenderer() {}
+
+    /** 목록용 미리보기: 연속 공백 / 줄바꿈을 공백 1개로 정리 후 길이 제한 (잘린 경우 말줄임표) */
+    public static String excerpt(String content) {
+        if (content == null) return "";
+
+        String text = content.replaceAll("\\s+", " ").trim();
+        if (text.codePointCount(0, text.length()) <= Board.EXCERPT_LENGTH) return text;
+
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 code point 기준으로 자름
+        int end = text.offsetByCodePoints(0, Board.EXCERPT_LENGTH - ELLIPSIS.length());
+        return text.substring(0, end).stripTrailing() + ELLIPSIS;
+    }
+
+    /** 상세용 HTML */
+    public static String html(String content) {
+        if (content == null || content.isBlank()) return "";
+
+        String normalized = content.replace("\r\n", "\n").replace('\r', '\n').strip();
+
+        StringBuilder sb = new StringBuilder(normalized.length() + 64);
+        for (String paragraph : PARAGRAPH_BREAK.split(normalized)) {
+            sb.append("<p>");
+            String[] lines = paragraph.strip().split("\n");
+            for (int i = 0; i < lines.length; i++) {
+                if (i > 0) sb.append("<br>");
+                appendLine(lines[i], sb);
+            }
+            sb.append("</p>");
+        }
+        return sb.toString();
+    }
+
+    private static void appendLine(String line, StringBuilder sb) {
+        Matcher matcher = URL.matcher(line);
+        int pos = 0;
+
+        while (matcher.find()) {
+            escape(line, pos, matcher.start(), sb);
+
+            sb.append("<a href=\"");
+            escape(line, matcher.start(), matcher.end(), sb);
+            sb.append("\" target=\"_blank\" rel=\"nofollow noopener noreferrer\">");
+            escape(line, matcher.start(), matcher.end(), sb);
+            sb.append("</a>");
+
+            pos = matcher.end();
+        }
+        escape(line, pos, line.length(), sb);
+    }
+
+    private static void escape(String text, int from, int to, StringBuilder sb) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
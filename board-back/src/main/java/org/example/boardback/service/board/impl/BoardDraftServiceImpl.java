@@ -1,25 +1,108 @@
 package org.example.boardback.service.board.impl;
 
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.common.utils.DateTimeUtil;
 import org.example.boardback.dto.ResponseDto;
 import org.example.boardback.dto.board.request.DraftCreateRequestDto;
+import org.example.boardback.dto.board.request.DraftUpdateRequestDto;
 import org.example.boardback.dto.board.response.DraftResponseDto;
+import org.example.boardback.entity.board.draft.BoardDraft;
+import org.example.boardback.entity.user.User;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.draft.BoardDraftRepository;
+import org.example.boardback.repository.user.UserRepository;
+import org.example.boardback.security.util.PrincipalUtils;
 import org.example.boardback.service.board.BoardDraftService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BoardDraftServiceImpl implements BoardDraftService {
+
+    private final BoardDraftRepository boardDraftRepository;
+    private final UserRepository userRepository;
+
     @Override
+    @Transactional
     public ResponseDto<DraftResponseDto> saveDraft(DraftCreateRequestDto request) {
-        return null;
+        Long userId = PrincipalUtils.currentPrincipal().getId();
+
+        User writer = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        BoardDraft draft = boardDraftRepository.save(BoardDraft.builder()
+                .title(request.title())
+                .content(request.content())
+                .writer(writer)
+                .build());
+
+        return ResponseDto.success(toResponse(draft));
+    }
+
+    /**
+     * 수정 (자동 저장)
+     * - 요청의 version 이 현재 버전과 다르면 409 (C008): 다른 탭 / 기기에서 먼저 저장됨
+     * - 읽은 뒤 ~ flush 사이에 다른 저장이 커밋되면 @Version 충돌 → GlobalExceptionHandler 에서 같은 409
+     * - 내용을 덮어쓰는 변경이므로 자동 재시도하지 않음
+     */
+    @Override
+    @Transactional
+    public ResponseDto<DraftResponseDto> updateDraft(Long draftId, DraftUpdateRequestDto request) {
+        BoardDraft draft = getOwnedDraft(draftId);
+        if (draft.getVersion() != request.version()) {
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+
+        draft.update(request.title(), request.content());
+
+        // 응답의 updatedAt / 충돌 검사를 위해 커밋 전에 반영
+        boardDraftRepository.flush();
+
+        return ResponseDto.success(toResponse(draft));
     }
 
     @Override
     public ResponseDto<DraftResponseDto> getDraft(Long draftId) {
-        return null;
+        return ResponseDto.success(toResponse(getOwnedDraft(draftId)));
     }
 
     @Override
+    @Transactional
     public ResponseDto<Void> deleteDraft(Long draftId) {
-        return null;
+        boardDraftRepository.delete(getOwnedDraft(draftId));
+        return ResponseDto.success("success");
+    }
+
+    // ============================================================
+    // 내부 메서드
+    // ============================================================
+
+    /** 임시글은 작성자 본인만 조회 / 수정 / 삭제 가능 */
+    private BoardDraft getOwnedDraft(Long draftId) {
+        Long userId = PrincipalUtils.currentPrincipal().getId();
+
+        BoardDraft draft = boardDraftRepository.findWithWriterById(draftId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.DRAFT_NOT_FOUND));
+
+        if (!draft.getWriter().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return draft;
+    }
+
+    private DraftResponseDto toResponse(BoardDraft draft) {
+        return DraftResponseDto.from(
+                draft.getId(),
+                draft.getTitle(),
+                draft.getContent(),
+                draft.getWriter().getId(),
+                draft.getWriter().getNickname(),
+                DateTimeUtil.toInstant(draft.getCreatedAt()),
+                DateTimeUtil.toInstant(draft.getUpdatedAt()),
+                draft.getVersion()
+        );
     }
 }
@@ -0,0 +1,135 @@
+package org.example.boardback.service.board.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.common.utils.DateTimeUtil;
+import org.example.boardback.dto.board.response.BoardExportDto;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.security.util.PrincipalUtils;
+import org.example.boardback.service.board.BoardExportService;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 전체 내보내기 (NDJSON)
+ *
+ * - StatelessSession + 전진 전용(FORWARD_ONLY) 스크롤로 한 행씩 읽어 바로 출력
+ *   : 영속성 컨텍스트 / 1차 캐시가 없으므로 읽은 행이 메모리에 쌓이지 않음 (건수와 무관하게 일정한 힙 사용)
+ *   : 엔티티가 아닌 스칼라 select → 지연 로딩 / 연관 엔티티 초기화 없음
+ * - MySQL: fetchSize = Integer.MIN_VALUE → 드라이버가 결과 전체를 받지 않고 행 단위로 스트리밍
+ *   그 외 DB(H2 등): 일반 fetchSize
+ * - 응답은 StreamingResponseBody 로 비동기 스레드에서 전송 (app.web.async-timeout-ms)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardExportServiceImpl implements BoardExportService {
+
+    private static final String EXPORT_QUERY = """
+        select b.id, b.title, bc.content,
+               w.id, w.nickname, c.id, c.name,
+               b.viewCount, b.likeCount, b.commentCount, b.pinned,
+               b.createdAt, b.updatedAt
+        from Board b
+            join b.writer w
+            join b.category c
+            join BoardContent bc on bc.boardId = b.id
+        order by b.id
+    """;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.board.export.fetch-size:1000}")
+    private int defaultFetchSize;
+
+    // 이 건수마다 클라이언트로 flush
+    @Value("${app.board.export.flush-every:1000}")
+    private int flushEvery;
+
+    private int fetchSize;
+
+    @PostConstruct
+    void detectDatabase() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        boolean mysql = product != null && product.toLowerCase().contains("mysql");
+        fetchSize = mysql ? Integer.MIN_VALUE : defaultFetchSize;
+    }
+
+    @Override
+    public StreamingResponseBody exportBoards() {
+        if (!PrincipalUtils.isAdmin(PrincipalUtils.currentPrincipal())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return this::writeTo;
+    }
+
+    private void writeTo(OutputStream outputStream) throws IOException {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        ObjectWriter writer = objectMapper.writerFor(BoardExportDto.class);
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+
+        long started = System.currentTimeMillis();
+        long count = 0;
+
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             ScrollableResults<Object[]> rows = session.createSelectionQuery(EXPORT_QUERY, Object[].class)
+                     .setFetchSize(fetchSize)
+                     .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            while (rows.next()) {
+                out.write(writer.writeValueAsBytes(toDto(rows.get())));
+                out.write('\n');
+
+                if (++count % flushEvery == 0) out.flush();
+            }
+            out.flush();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등: 이미 응답이 전송 중이므로 로그만 남기고 중단
+            log.warn("[BoardExport] 내보내기 중단 ({}건 전송 후)", count, e);
+            throw e;
+        }
+
+        log.info("[BoardExport] {}건 내보내기 완료 ({}ms)", count, System.currentTimeMillis() - started);
+    }
+
+    private BoardExportDto toDto(Object[] row) {
+        return new BoardExportDto(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                (Long) row[3],
+                (String) row[4],
+                (Long) row[5],
+                (String) row[6],
+                (Long) row[7],
+                (Integer) row[8],
+                (Integer) row[9],
+                (Boolean) row[10],
+                DateTimeUtil.toInstant((LocalDateTime) row[11]),
+                DateTimeUtil.toInstant((LocalDateTime) row[12])
+        );
+    }
+}
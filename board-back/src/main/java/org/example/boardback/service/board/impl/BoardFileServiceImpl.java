@@ -169,8 +169,9 @@ public class BoardFileServiceImpl implements BoardFileService {
             Board board = boardRepository.findById(boardId)
                     .orElseThrow(() -> new EntityNotFoundException("해당 id의 게시글이 없습니다."));
 
-            int maxOrder = boardFileRepository.findByBoardIdOrderByDisplayOrderAsc(boardId)
-                    .stream()
+            // 남은 파일의 최대 순서 (위에서 조회한 목록 재사용 → 재조회 X)
+            int maxOrder = currentFiles.stream()
+                    .filter(boardFile -> !deleteTargets.contains(boardFile))
                     .mapToInt(BoardFile::getDisplayOrder)
                     .max()
                     .orElse(-1);
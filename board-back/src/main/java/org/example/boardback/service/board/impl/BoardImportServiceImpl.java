@@ -0,0 +1,210 @@
+package org.example.boardback.service.board.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.common.utils.DateTimeUtil;
+import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.board.request.BoardImportRowDto;
+import org.example.boardback.dto.board.response.BoardImportResultDto;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.event.board.BoardsImportedEvent;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.BoardBulkInsertRepository;
+import org.example.boardback.repository.board.BoardBulkInsertRepository.NewBoard;
+import org.example.boardback.repository.board.BoardCategoryRepository;
+import org.example.boardback.repository.board.BoardCategoryStatRepository;
+import org.example.boardback.security.util.PrincipalUtils;
+import org.example.boardback.service.board.BoardImportService;
+import org.example.boardback.service.board.bulk.BoardImportFormat;
+import org.example.boardback.service.board.bulk.BoardImportReader;
+import org.example.boardback.service.board.cache.BoardListVersion;
+import org.example.boardback.service.board.content.BoardContentRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 대량 가져오기 (NDJSON / CSV)
+ *
+ * - 요청 본문을 한 행씩 읽어 chunk-size 건마다 JDBC 배치 INSERT + 커밋 (BoardBulkInsertRepository)
+ *   : 청크를 커밋한 뒤에야 다음 입력을 읽음 → DB 속도에 맞춰 업로드가 조절됨 (TCP 흐름 제어로 backpressure)
+ *   : 메모리에는 항상 청크 1개만 유지
+ * - 잘못된 행(형식 / 필수값 / 없는 작성자·카테고리)은 거부하고 계속 진행, 실패한 청크만 롤백
+ * - 미리보기 / 렌더링 HTML 은 일반 작성과 동일하게 저장 시 계산 (BoardContentRenderer)
+ * - 카테고리별 게시글 수는 청크 트랜잭션 안에서 함께 증가
+ * - 완료 후 목록 버전 갱신 + BoardsImportedEvent (검색 색인 재생성) 1회
+ * - 동시에 하나의 가져오기만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardImportServiceImpl implements BoardImportService {
+
+    private static final int MAX_ERRORS = 100;
+    private static final int TITLE_MAX_LENGTH = 150;
+
+    private final BoardBulkInsertRepository boardBulkInsertRepository;
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final BoardCategoryStatRepository boardCategoryStatRepository;
+    private final BoardListVersion boardListVersion;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private final Semaphore running = new Semaphore(1);
+
+    @Value("${app.board.import.chunk-size:2000}")
+    private int chunkSize;
+
+    private record PendingRow(long line, BoardImportRowDto row) {}
+
+    /** 진행 상황 (한 번의 가져오기 동안만 사용) */
+    private static final class Progress {
+        long imported = 0;
+        long rejected = 0;
+        final List<String> errors = new ArrayList<>();
+
+        void reject(long line, String reason) {
+            rejected++;
+            if (errors.size() < MAX_ERRORS) errors.add(line + ": " + reason);
+        }
+    }
+
+    @Override
+    public ResponseDto<BoardImportResultDto> importBoards(InputStream in, BoardImportFormat format) {
+        if (!PrincipalUtils.isAdmin(PrincipalUtils.currentPrincipal())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        if (!running.tryAcquire()) {
+            throw new BusinessException(ErrorCode.BOARD_IMPORT_IN_PROGRESS);
+        }
+
+        long started = System.currentTimeMillis();
+        Progress progress = new Progress();
+
+        try (BoardImportReader reader = new BoardImportReader(in, format, objectMapper)) {
+            Set<Long> categoryIds = boardCategoryRepository.findAll().stream()
+                    .map(BoardCategory::getId)
+                    .collect(Collectors.toSet());
+
+            List<PendingRow> chunk = new ArrayList<>(chunkSize);
+            BoardImportReader.Row row;
+
+            while ((row = reader.next()) != null) {
+                String error = row.error() != null ? row.error() : validate(row.value(), categoryIds);
+                if (error != null) {
+                    progress.reject(row.line(), error);
+                    continue;
+                }
+
+                chunk.add(new PendingRow(row.line(), row.value()));
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            flush(chunk, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            running.release();
+
+            if (progress.imported > 0) {
+                boardListVersion.bump();
+                eventPublisher.publishEvent(new BoardsImportedEvent(progress.imported));
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("[BoardImport] {} 가져오기 완료 - 성공 {}건, 거부 {}건, {}ms ({}건/s)",
+                format, progress.imported, progress.rejected, elapsed,
+                elapsed == 0 ? progress.imported : progress.imported * 1000 / elapsed);
+
+        return ResponseDto.success(new BoardImportResultDto(
+                progress.imported, progress.rejected, progress.errors, elapsed));
+    }
+
+    private String validate(BoardImportRowDto row, Set<Long> categoryIds) {
+        if (row.title() == null || row.title().isBlank()) return "title 누락";
+        if (row.title().length() > TITLE_MAX_LENGTH) return "title 길이 초과";
+        if (row.content() == null) return "content 누락";
+        if (row.writerId() == null) return "writerId 누락";
+        if (row.categoryId() == null) return "categoryId 누락";
+        if (!categoryIds.contains(row.categoryId())) return "존재하지 않는 categoryId: " + row.categoryId();
+        if (row.viewCount() != null && row.viewCount() < 0) return "viewCount 는 0 이상";
+        return null;
+    }
+
+    /** 청크 1개 INSERT + 카테고리 카운터 증가 → 커밋 (실패 시 청크 전체 거부) */
+    private void flush(List<PendingRow> chunk, Progress progress) {
+        if (chunk.isEmpty()) return;
+
+        // 작성자 FK 사전 검증: 없는 사용자의 글만 거부 (청크 전체 실패 방지)
+        Set<Long> writerIds = boardBulkInsertRepository.findExistingUserIds(
+                chunk.stream().map(p -> p.row().writerId()).collect(Collectors.toSet()));
+
+        LocalDateTime now = DateTimeUtil.nowUtc();
+        List<PendingRow> accepted = new ArrayList<>(chunk.size());
+        List<NewBoard> boards = new ArrayList<>(chunk.size());
+
+        for (PendingRow pending : chunk) {
+            BoardImportRowDto row = pending.row();
+            if (!writerIds.contains(row.writerId())) {
+                progress.reject(pending.line(), "존재하지 않는 writerId: " + row.writerId());
+                continue;
+            }
+
+            accepted.add(pending);
+            boards.add(new NewBoard(
+                    row.title(),
+                    BoardContentRenderer.excerpt(row.content()),
+                    row.content(),
+                    BoardContentRenderer.html(row.content()),
+                    row.writerId(),
+                    row.categoryId(),
+                    row.viewCount() == null ? 0L : row.viewCount(),
+                    row.createdAt() == null ? now : LocalDateTime.ofInstant(row.createdAt(), ZoneOffset.UTC)
+            ));
+        }
+        if (boards.isEmpty()) return;
+
+        // 카테고리 카운터는 id 오름차순으로 갱신 (동시 작성 / 수정과의 교착 상태 방지)
+        Map<Long, Long> perCategory = boards.stream()
+                .collect(Collectors.groupingBy(NewBoard::categoryId, TreeMap::new, Collectors.counting()));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    boardBulkInsertRepository.insertAll(boards);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                perCategory.forEach(boardCategoryStatRepository::addBoardCount);
+            });
+            progress.imported += boards.size();
+        } catch (RuntimeException e) {
+            log.warn("[BoardImport] 청크 저장 실패 ({}~{}행) - 청크 거부",
+                    accepted.get(0).line(), accepted.get(accepted.size() - 1).line(), e);
+            for (PendingRow pending : accepted) {
+                progress.reject(pending.line(), "저장 실패 (청크 롤백)");
+            }
+        }
+    }
+}
@@ -1,24 +1,77 @@
 package org.example.boardback.service.board.impl;
 
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.config.datasource.DataSourceRouting;
 import org.example.boardback.dto.ResponseDto;
 import org.example.boardback.dto.board.response.LikeCountResponseDto;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.security.user.UserPrincipal;
+import org.example.boardback.security.util.PrincipalUtils;
 import org.example.boardback.service.board.BoardLikeService;
+import org.example.boardback.service.board.like.BoardLikeStore;
+import org.example.boardback.service.board.trending.BoardTrendingRanker;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BoardLikeServiceImpl implements BoardLikeService {
+
+    private final BoardRepository boardRepository;
+    private final BoardLikeStore boardLikeStore;
+    private final BoardTrendingRanker boardTrendingRanker;
+
+    /**
+     * 좋아요
+     * - Redis 집합에 SADD (이미 누른 경우 변경 없음 → 멱등), DB 쓰기 없음
+     * - board_likes / boards.like_count 는 BoardLikeFlushScheduler 가 일괄 반영
+     */
     @Override
     public ResponseDto<Void> likeBoard(Long boardId) {
-        return null;
+        Long userId = PrincipalUtils.currentPrincipal().getId();
+        checkExists(boardId);
+
+        if (boardLikeStore.like(boardId, userId)) {
+            boardTrendingRanker.recordLike(boardId, 1);
+        }
+
+        return ResponseDto.success("success");
     }
 
+    /** 좋아요 취소: 실제로 제거된 경우에만 순위 반영 */
     @Override
     public ResponseDto<Void> cancelLike(Long boardId) {
-        return null;
+        Long userId = PrincipalUtils.currentPrincipal().getId();
+        checkExists(boardId);
+
+        if (boardLikeStore.unlike(boardId, userId)) {
+            boardTrendingRanker.recordLike(boardId, -1);
+        }
+
+        return ResponseDto.success("success");
     }
 
+    /** 좋아요 수 / 내 좋아요 여부: Redis 집합 기준 (DB 반영 전 변경도 포함) */
     @Override
     public ResponseDto<LikeCountResponseDto> likeCount(Long boardId) {
-        return null;
+        checkExists(boardId);
+
+        int count = (int) boardLikeStore.count(boardId);
+
+        UserPrincipal principal = PrincipalUtils.currentPrincipalOrNull();
+        boolean likedByMe = principal != null && boardLikeStore.isLiked(boardId, principal.getId());
+
+        return ResponseDto.success(new LikeCountResponseDto(boardId, count, likedByMe));
+    }
+
+    // 없는 / 삭제된 게시글의 키가 Redis 에 생기지 않도록 먼저 확인
+    // : 방금 작성된 글이 레플리카 지연으로 404 가 되지 않도록 primary 에서 조회 (첫 커넥션 → 이후 적재 조회도 primary)
+    private void checkExists(Long boardId) {
+        if (!DataSourceRouting.primary(() -> boardRepository.existsById(boardId))) {
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        }
     }
 }
@@ -1,24 +1,68 @@
 package org.example.boardback.service.board.impl;
 
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.common.retry.OptimisticRetry;
 import org.example.boardback.dto.ResponseDto;
 import org.example.boardback.dto.board.response.PinnedBoardListResponseDto;
+import org.example.boardback.entity.board.Board;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.security.util.PrincipalUtils;
 import org.example.boardback.service.board.BoardPinService;
+import org.example.boardback.service.board.cache.BoardDetailCache;
+import org.example.boardback.service.board.cache.BoardListVersion;
+import org.example.boardback.service.board.cache.PinnedBoardSnapshot;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BoardPinServiceImpl implements BoardPinService {
+
+    private final BoardRepository boardRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final PinnedBoardSnapshot pinnedBoardSnapshot;
+    private final BoardListVersion boardListVersion;
+
+    /** 상단 고정 (ADMIN 전용), 글 수정과 충돌하면 재시도 */
     @Override
+    @OptimisticRetry
+    @Transactional
     public ResponseDto<Void> pin(Long boardId) {
-        return null;
+        getBoardAsAdmin(boardId).pin();
+        boardDetailCache.evict(boardId);
+        boardListVersion.bump();
+        pinnedBoardSnapshot.changed();
+        return ResponseDto.success("success");
     }
 
+    /** 상단 고정 해제 (ADMIN 전용), 글 수정과 충돌하면 재시도 */
     @Override
+    @OptimisticRetry
+    @Transactional
     public ResponseDto<Void> unpin(Long boardId) {
-        return null;
+        getBoardAsAdmin(boardId).unpin();
+        boardDetailCache.evict(boardId);
+        boardListVersion.bump();
+        pinnedBoardSnapshot.changed();
+        return ResponseDto.success("success");
     }
 
+    /** 고정 게시글 목록: 메모리 스냅샷 반환 (트랜잭션 / DB 조회 없음) */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseDto<PinnedBoardListResponseDto> getPinnedBoards() {
-        return null;
+        return ResponseDto.success(pinnedBoardSnapshot.get());
+    }
+
+    private Board getBoardAsAdmin(Long boardId) {
+        if (!PrincipalUtils.isAdmin(PrincipalUtils.currentPrincipal())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return boardRepository.findById(boardId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
     }
 }
@@ -1,5 +1,10 @@
 package org.example.boardback.service.board.impl;
 
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.common.utils.CursorUtil;
+import org.example.boardback.common.utils.DateTimeUtil;
+import org.example.boardback.config.datasource.DataSourceRouting;
 import org.example.boardback.dto.ResponseDto;
 import org.example.boardback.dto.board.request.BoardCreateRequestDto;
 import org.example.boardback.dto.board.request.BoardUpdateRequestDto;
@@ -7,55 +12,477 @@ import org.example.boardback.dto.board.request.PageBoardRequestDto;
 import org.example.boardback.dto.board.request.SearchBoardRequestDto;
 import org.example.boardback.dto.board.response.BoardListResponseDto;
 import org.example.boardback.dto.board.response.BoardResponseDto;
+import org.example.boardback.dto.board.response.BoardSearchHighlightDto;
+import org.example.boardback.dto.board.response.BoardSummaryDto;
 import org.example.boardback.dto.board.response.PageBoardResponseDto;
 import org.example.boardback.dto.board.response.SearchBoardListResponseDto;
+import org.example.boardback.entity.board.Board;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.entity.board.BoardContent;
+import org.example.boardback.entity.file.BoardFile;
+import org.example.boardback.entity.file.FileInfo;
+import org.example.boardback.entity.user.User;
+import org.example.boardback.event.board.BoardChangedEvent;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.BoardCategoryRepository;
+import org.example.boardback.repository.board.BoardCategoryStatRepository;
+import org.example.boardback.repository.board.BoardContentRepository;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.board.BoardSearchSourceRepository;
+import org.example.boardback.repository.board.BoardSearchSourceRepository.BoardSearchSource;
+import org.example.boardback.repository.board.projection.BoardSummaryView;
+import org.example.boardback.repository.file.BoardFileRepository;
+import org.example.boardback.repository.file.FileInfoRepository;
+import org.example.boardback.repository.user.UserRepository;
+import org.example.boardback.security.user.UserPrincipal;
+import org.example.boardback.security.util.PrincipalUtils;
 import org.example.boardback.service.board.BoardService;
+import org.example.boardback.service.board.cache.BoardDetailCache;
+import org.example.boardback.service.board.cache.PinnedBoardSnapshot;
+import org.example.boardback.service.board.content.BoardContentRenderer;
+import org.example.boardback.service.board.search.BoardSearchEngine;
+import org.example.boardback.service.board.search.BoardSearchHighlighter;
+import org.example.boardback.service.board.trending.BoardTrendingRanker;
+import org.example.boardback.service.board.view.BoardViewCountBuffer;
+import org.example.boardback.service.board.view.BoardViewDeduplicator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BoardServiceImpl implements BoardService {
+
+    private final BoardRepository boardRepository;
+    private final BoardContentRepository boardContentRepository;
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final BoardCategoryStatRepository boardCategoryStatRepository;
+    private final UserRepository userRepository;
+    private final BoardFileRepository boardFileRepository;
+    private final FileInfoRepository fileInfoRepository;
+    private final BoardViewCountBuffer viewCountBuffer;
+    private final BoardViewDeduplicator viewDeduplicator;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardTrendingRanker boardTrendingRanker;
+    private final PinnedBoardSnapshot pinnedBoardSnapshot;
+    private final BoardSearchEngine boardSearchEngine;
+    private final BoardSearchSourceRepository boardSearchSourceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // OFFSET 페이징에서 허용하는 정렬 필드
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "createdAt", "updatedAt", "viewCount", "title"
+    );
+
+    // OFFSET 페이징 기본 정렬 = 커서 페이징의 고정 정렬
+    private static final String DEFAULT_SORT = "createdAt,desc";
+
+    // 카테고리 / 내가 쓴 글 / 검색 목록의 최대 조회 건수 (페이지 size 상한과 동일)
+    private static final int LIST_LIMIT = 200;
+
+    // 인기 글 최대 조회 건수
+    private static final int TRENDING_LIMIT = 100;
+
+    // 검색 결과 중 하이라이트를 생성할 상위 건수 / 본문 스니펫 길이
+    private static final int HIGHLIGHT_LIMIT = 20;
+    private static final int SNIPPET_LENGTH = 120;
+
+    /**
+     * 단건 조회
+     * - BoardDetailCache(로컬 → Redis → DB) 를 거쳐 조회
+     * - 좋아요/댓글 수는 boards 의 카운터 컬럼을 그대로 사용 (컬렉션 초기화 / COUNT 쿼리 X)
+     * - 조회수는 캐시 값에 아직 DB 에 반영되지 않은 버퍼 값을 더해 응답
+     * - 캐시 미스 로드는 primary 에서 읽음 (레플리카 지연 값이 공유 캐시에 남지 않도록)
+     */
     @Override
     public ResponseDto<BoardResponseDto> getBoard(String boardId) {
-        return null;
+        Long id = parseBoardId(boardId);
+        BoardResponseDto board = boardDetailCache.get(id,
+                boardId -> DataSourceRouting.primary(() -> loadBoardDetail(boardId)));
+
+        return ResponseDto.success(board.withViewCount(board.viewCount() + viewCountBuffer.pending(id)));
     }
 
     @Override
+    @Transactional
     public ResponseDto<BoardResponseDto> createBoard(BoardCreateRequestDto request) {
-        return null;
+        Long userId = PrincipalUtils.currentPrincipal().getId();
+
+        User writer = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        BoardCategory category = getCategoryOrThrow(request.categoryId());
+
+        // 미리보기 / 렌더링 HTML 은 저장 시 1회만 계산 (조회는 컬럼 값 그대로 사용)
+        String renderedHtml = BoardContentRenderer.html(request.content());
+
+        Board board = Board.builder()
+                .title(request.title())
+                .excerpt(BoardContentRenderer.excerpt(request.content()))
+                .writer(writer)
+                .category(category)
+                .build();
+
+        boardRepository.save(board);
+        boardContentRepository.save(new BoardContent(board, request.content(), renderedHtml));
+        eventPublisher.publishEvent(BoardChangedEvent.created(board.getId(), board.getTitle(), request.content()));
+
+        // 이미 업로드된 파일(fileIds)을 게시글에 연결
+        if (request.fileIds() != null && !request.fileIds().isEmpty()) {
+            int order = 0;
+            for (FileInfo info : fileInfoRepository.findAllById(request.fileIds())) {
+                boardFileRepository.save(BoardFile.of(board, info, order++));
+            }
+        }
+
+        boardCategoryStatRepository.addBoardCount(category.getId(), 1);
+
+        return ResponseDto.success(toResponse(board, request.content(), renderedHtml));
     }
 
+    /**
+     * 수정 (제목 / 내용 / 카테고리)
+     * - 첨부 파일 변경은 BoardFileController(PUT /board-files/{boardId}/files)에서 처리
+     * - 요청의 version 이 현재 버전과 다르면 409 (C008): 수정 폼을 연 뒤 다른 수정 / 고정 변경이 커밋됨
+     *   → 다시 읽어서 덮어쓰면 상대의 수정이 사라지므로 자동 재시도하지 않고 클라이언트가 새로고침 후 다시 수정
+     */
     @Override
+    @Transactional
     public ResponseDto<BoardResponseDto> updateBoard(Long boardId, BoardUpdateRequestDto request) {
-        return null;
+        if (boardRepository.increaseVersion(boardId, request.version()) == 0) {
+            getOwnedBoard(boardId);     // 없는 글 / 권한 없음은 404 / 403 우선
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+
+        Board board = getOwnedBoard(boardId);
+        BoardCategory category = getCategoryOrThrow(request.categoryId());
+        Long previousCategoryId = board.getCategory().getId();
+
+        String renderedHtml = BoardContentRenderer.html(request.content());
+
+        board.changeContent(request.title(), BoardContentRenderer.excerpt(request.content()), category);
+        boardContentRepository.findById(boardId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND))
+                .changeContent(request.content(), renderedHtml);
+        changeCategoryCount(previousCategoryId, category.getId());
+        boardTrendingRanker.moveCategory(boardId, previousCategoryId, category.getId());
+        if (board.isPinned()) pinnedBoardSnapshot.changed();
+        boardDetailCache.evict(boardId);
+        eventPublisher.publishEvent(BoardChangedEvent.updated(board.getId(), board.getTitle(), request.content()));
+
+        // 응답의 version / updatedAt 이 커밋될 값과 같도록 먼저 반영
+        boardRepository.flush();
+
+        return ResponseDto.success(toResponse(board, request.content(), renderedHtml));
     }
 
+    /**
+     * 삭제 (soft delete)
+     * - deleted_at 만 기록 → 좋아요 / 댓글 / 첨부 파일 수와 관계없이 한 행 UPDATE
+     * - 연관 데이터 / 물리 파일 / 게시글 행은 BoardPurgeScheduler 가 청크 단위로 정리
+     */
     @Override
+    @Transactional
     public ResponseDto<Void> deleteBoard(Long boardId) {
-        return null;
+        Board board = getOwnedBoard(boardId);
+
+        Long categoryId = board.getCategory().getId();
+        board.markDeleted(DateTimeUtil.nowUtc());
+        boardCategoryStatRepository.addBoardCount(categoryId, -1);
+        boardDetailCache.evict(boardId);
+        boardTrendingRanker.remove(boardId, categoryId);
+        if (board.isPinned()) pinnedBoardSnapshot.changed();
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(boardId));
+
+        return ResponseDto.success("success");
     }
 
+    /**
+     * 검색
+     * - 검색 백엔드는 app.board.search.engine(memory / fulltext / like) 으로 선택 (BoardSearchEngine)
+     * - 메모리 역색인으로 찾은 경우에만 상위 결과에 제목 / 본문 하이라이트 포함 (LIKE / FULLTEXT 는 null)
+     */
     @Override
     public ResponseDto<SearchBoardListResponseDto> searchBoards(SearchBoardRequestDto request) {
-        return null;
+        String searchType = request.searchType() == null ? "all" : request.searchType();
+
+        BoardSearchEngine.Result result = boardSearchEngine.search(request.q(), searchType, LIST_LIMIT);
+
+        List<BoardSummaryDto> boards = result.boards().stream()
+                .map(BoardSummaryDto::from)
+                .toList();
+
+        Map<Long, BoardSearchHighlightDto> highlights = result.indexed()
+                ? buildHighlights(boards, request.q())
+                : null;
+
+        return ResponseDto.success(new SearchBoardListResponseDto(
+                boards,
+                result.totalCount(),
+                0,
+                LIST_LIMIT,
+                Math.max(1, (int) Math.ceil((double) result.totalCount() / LIST_LIMIT)),
+                request.q(),
+                null,
+                highlights
+        ));
     }
 
     @Override
     public ResponseDto<BoardListResponseDto> getBoardsByCategory(Long categoryId) {
-        return null;
+        List<BoardSummaryDto> items = boardRepository
+                .findSummariesByCategoryId(categoryId, PageRequest.of(0, LIST_LIMIT))
+                .stream()
+                .map(BoardSummaryDto::from)
+                .toList();
+
+        return ResponseDto.success(new BoardListResponseDto(items, items.size()));
     }
 
     @Override
     public ResponseDto<PageBoardResponseDto> getBoardsByPage(PageBoardRequestDto request) {
-        return null;
+        if (request.isCursorMode()) {
+            return ResponseDto.success(getBoardsByCursor(request));
+        }
+
+        String sort = request.hasSort() ? request.sort() : DEFAULT_SORT;
+        PageRequest pageRequest = PageRequest.of(request.page(), request.size(), parseSort(sort));
+        Page<BoardSummaryView> page = boardRepository.findSummaryPage(pageRequest);
+
+        List<BoardSummaryDto> items = page.getContent().stream()
+                .map(BoardSummaryDto::from)
+                .toList();
+
+        return ResponseDto.success(PageBoardResponseDto.ofOffset(
+                items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages()
+        ));
     }
 
     @Override
     public ResponseDto<BoardListResponseDto> getMyBoards() {
-        return null;
+        Long userId = PrincipalUtils.currentPrincipal().getId();
+
+        List<BoardSummaryDto> items = boardRepository
+                .findSummariesByWriterId(userId, PageRequest.of(0, LIST_LIMIT))
+                .stream()
+                .map(BoardSummaryDto::from)
+                .toList();
+
+        return ResponseDto.success(new BoardListResponseDto(items, items.size()));
     }
 
+    /**
+     * 인기 글 (시간 감쇠 트렌딩 순위)
+     * - Redis Sorted Set 상위 size 건의 id 만 조회 후 요약 정보 하이드레이션 (boards ORDER BY 없음)
+     * - categoryId 가 null 이면 전체
+     */
     @Override
-    public ResponseDto<Void> increaseViewCount(Long boardId) {
-        return null;
+    public ResponseDto<BoardListResponseDto> getTrendingBoards(Long categoryId, int size) {
+        int limit = Math.min(Math.max(size, 1), TRENDING_LIMIT);
+
+        List<BoardSummaryDto> items = boardRepository
+                .findSummariesByIdsInOrder(boardTrendingRanker.topIds(categoryId, limit))
+                .stream()
+                .map(BoardSummaryDto::from)
+                .toList();
+
+        return ResponseDto.success(new BoardListResponseDto(items, items.size()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseDto<Void> increaseViewCount(Long boardId, String clientIp) {
+        // 없는 글은 중복 제거 키 / 버퍼 항목을 만들지 않음 (상세 캐시 hit 이면 DB 접근 없음)
+        boardDetailCache.get(boardId, id -> DataSourceRouting.primary(() -> loadBoardDetail(id)));
+
+        // 로그인 사용자는 userId, 비로그인은 IP 기준으로 윈도우 내 재조회 제외
+        UserPrincipal principal = PrincipalUtils.currentPrincipalOrNull();
+        Long userId = principal != null ? principal.getId() : null;
+
+        if (!viewDeduplicator.isFirstView(boardId, userId, clientIp)) {
+            return ResponseDto.success("success");
+        }
+
+        // DB 트랜잭션 / 행 락 없이 메모리 버퍼에만 누적 → 스케줄러가 주기적으로 일괄 반영
+        viewCountBuffer.increment(boardId);
+        return ResponseDto.success("success");
+    }
+
+    // ============================================================
+    // 내부 메서드
+    // ============================================================
+
+    private Long parseBoardId(String boardId) {
+        try {
+            return Long.parseLong(boardId);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_TYPE, "잘못된 게시글 id: " + boardId);
+        }
+    }
+
+    /**
+     * 캐시 loader: 백그라운드 조기 갱신에서도 호출되므로 fetch join 으로 한 번에 조회
+     * - 본문은 board_contents 에서 PK 로 별도 조회
+     * - 렌더링 HTML 이 아직 없는 기존 글(백필 전)만 이 자리에서 생성
+     */
+    private BoardResponseDto loadBoardDetail(Long boardId) {
+        Board board = boardRepository.findDetailById(boardId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+        BoardContent body = boardContentRepository.findById(boardId).orElse(null);
+
+        String content = body == null ? "" : body.getContent();
+        String renderedHtml = body == null || body.getRenderedHtml() == null
+                ? BoardContentRenderer.html(content)
+                : body.getRenderedHtml();
+
+        return toResponse(board, content, renderedHtml);
+    }
+
+    private BoardCategory getCategoryOrThrow(Long categoryId) {
+        return boardCategoryRepository.findById(categoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+    }
+
+    /**
+     * 카테고리 변경 시 카테고리별 게시글 수 이동
+     * - 두 카운터 행을 항상 id 오름차순으로 갱신 (동시 변경 간 교착 상태 방지)
+     */
+    private void changeCategoryCount(Long fromCategoryId, Long toCategoryId) {
+        if (fromCategoryId.equals(toCategoryId)) return;
+
+        if (fromCategoryId < toCategoryId) {
+            boardCategoryStatRepository.addBoardCount(fromCategoryId, -1);
+            boardCategoryStatRepository.addBoardCount(toCategoryId, 1);
+        } else {
+            boardCategoryStatRepository.addBoardCount(toCategoryId, 1);
+            boardCategoryStatRepository.addBoardCount(fromCategoryId, -1);
+        }
+    }
+
+    /**
+     * 작성자 본인 또는 ADMIN 만 수정/삭제 가능
+     * - 수정 응답에 작성자 닉네임 / 카테고리명이 필요하므로 상세 조회와 같은 fetch join 사용
+     */
+    private Board getOwnedBoard(Long boardId) {
+        UserPrincipal principal = PrincipalUtils.currentPrincipal();
+        Board board = boardRepository.findDetailById(boardId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+
+        boolean isWriter = board.getWriter().getId().equals(principal.getId());
+
+        if (!isWriter && !PrincipalUtils.isAdmin(principal)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return board;
+    }
+
+    private BoardResponseDto toResponse(Board board, String content, String renderedHtml) {
+        return BoardResponseDto.of(
+                board.getId(),
+                board.getTitle(),
+                content,
+                renderedHtml,
+                board.getViewCount(),
+                board.isPinned(),
+                board.getWriter().getId(),
+                board.getWriter().getNickname(),
+                board.getCategory().getId(),
+                board.getCategory().getName(),
+                board.getLikeCount(),
+                board.getCommentCount(),
+                DateTimeUtil.toInstant(board.getCreatedAt()),
+                DateTimeUtil.toInstant(board.getUpdatedAt()),
+                board.getVersion()
+        );
+    }
+
+    /**
+     * 키셋(커서) 페이징
+     * - (created_at, id) 기준 내림차순으로 size + 1 건만 조회 → 다음 페이지 존재 여부 판단
+     * - COUNT(*) 를 실행하지 않음
+     */
+    private PageBoardResponseDto getBoardsByCursor(PageBoardRequestDto request) {
+        // 커서는 (created_at, id) 기준이므로 다른 정렬을 요청하면 조용히 무시하지 않고 거부
+        if (request.hasSort() && !parseSort(request.sort()).equals(parseSort(DEFAULT_SORT))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "커서 페이징은 " + DEFAULT_SORT + " 정렬만 지원합니다.");
+        }
+
+        int size = request.size();
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<BoardSummaryView> boards;
+        if (request.cursor().isBlank()) {
+            boards = boardRepository.findFirstPageByCursor(limit);
+        } else {
+            CursorUtil.Cursor cursor = CursorUtil.decode(request.cursor());
+            boards = boardRepository.findNextPageByCursor(cursor.createdAt(), cursor.id(), limit);
+        }
+
+        boolean hasNext = boards.size() > size;
+        List<BoardSummaryView> content = hasNext ? boards.subList(0, size) : boards;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BoardSummaryView last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+
+        List<BoardSummaryDto> items = content.stream()
+                .map(BoardSummaryDto::from)
+                .toList();
+
+        return PageBoardResponseDto.ofCursor(items, size, nextCursor);
+    }
+
+    /** 상위 HIGHLIGHT_LIMIT 건의 제목 / 본문 하이라이트 */
+    private Map<Long, BoardSearchHighlightDto> buildHighlights(List<BoardSummaryDto> boards, String q) {
+        List<Long> ids = boards.stream()
+                .limit(HIGHLIGHT_LIMIT)
+                .map(BoardSummaryDto::id)
+                .toList();
+
+        Map<Long, BoardSearchSource> sources = new HashMap<>();
+        for (BoardSearchSource source : boardSearchSourceRepository.findByIds(ids)) {
+            sources.put(source.id(), source);
+        }
+
+        Map<Long, BoardSearchHighlightDto> highlights = new LinkedHashMap<>();
+        for (Long id : ids) {
+            BoardSearchSource source = sources.get(id);
+            if (source == null) continue;
+
+            highlights.put(id, new BoardSearchHighlightDto(
+                    BoardSearchHighlighter.highlightTitle(source.title(), q),
+                    BoardSearchHighlighter.highlightContent(source.content(), q, SNIPPET_LENGTH)
+            ));
+        }
+        return highlights;
+    }
+
+    /** "createdAt,desc" → Sort (허용되지 않은 필드는 C001) */
+    private Sort parseSort(String sort) {
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+
+        if (!SORTABLE_FIELDS.contains(property)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "정렬할 수 없는 필드: " + property);
+        }
+
+        Sort.Direction direction = parts.length > 1 && parts[1].trim().equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        // 동일 값 정렬 시 결과 순서 보장을 위해 id 를 보조 정렬 키로 사용
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
     }
 }
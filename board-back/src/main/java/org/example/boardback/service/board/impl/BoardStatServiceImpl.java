@@ -1,14 +1,25 @@
 package org.example.boardback.service.board.impl;
 
+import lombok.RequiredArgsConstructor;
 import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.board.response.BoardCategoryCountResponseDto;
 import org.example.boardback.dto.board.response.DailyBoardStatResponseDto;
 import org.example.boardback.dto.board.response.GenderBoardStatResponseDto;
 import org.example.boardback.dto.board.response.MonthlyBoardStatResponseDto;
+import org.example.boardback.repository.board.BoardCategoryStatRepository;
 import org.example.boardback.service.board.BoardStatService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BoardStatServiceImpl implements BoardStatService {
+
+    private final BoardCategoryStatRepository boardCategoryStatRepository;
+
     @Override
     public ResponseDto<DailyBoardStatResponseDto> dailyStats() {
         return null;
@@ -23,4 +34,23 @@ public class BoardStatServiceImpl implements BoardStatService {
     public ResponseDto<GenderBoardStatResponseDto> genderStats() {
         return null;
     }
+
+    /** 카테고리별 게시글 수: board_category_stats 카운터 조회 (boards GROUP BY 없음) */
+    @Override
+    public ResponseDto<BoardCategoryCountResponseDto> categoryCounts() {
+        List<BoardCategoryCountResponseDto.CategoryCount> categories = boardCategoryStatRepository.findAllCounts()
+                .stream()
+                .map(view -> new BoardCategoryCountResponseDto.CategoryCount(
+                        view.getCategoryId(),
+                        view.getCategoryName(),
+                        view.getBoardCount()
+                ))
+                .toList();
+
+        long total = categories.stream()
+                .mapToLong(BoardCategoryCountResponseDto.CategoryCount::count)
+                .sum();
+
+        return ResponseDto.success(new BoardCategoryCountResponseDto(categories, total));
+    }
 }
@@ -0,0 +1,348 @@
+package org.example.boardback.service.board.like;
+
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.config.datasource.DataSourceRouting;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.like.BoardLikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * === BoardLikeStore ===
+ * 게시글별 좋아요 사용자 집합 (Redis Set) + DB 미반영 변경분 (write-behind)
+ *
+ * - users   : 좋아요를 누른 사용자 id 집합 (+ 적재 완료 표시용 LOADED 멤버 → 좋아요 0건도 키가 유지됨)
+ *             좋아요 / 취소 = SADD / SREM (O(1), 이미 반영된 요청은 변경 없음 → 멱등)
+ * - pending : DB 에 아직 반영되지 않은 변경 (사용자 id → 1: 좋아요 / 0: 취소, 마지막 요청만 남음 = 순변경)
+ * - flushing: BoardLikeFlushScheduler 가 꺼내서 DB 에 쓰는 중인 변경 (커밋 후 삭제, 실패 시 pending 으로 되돌림)
+ * - 키가 없으면(최초 접근 / TTL 만료) board_likes 에서 적재 후 pending / flushing 을 덧씌움 (cold start)
+ *   : 게시글 단위 반영 잠금을 잡은 채 적재 → 반영 중인 변경이 DB 조회 이후 커밋 / flushing 삭제되어 빠지는 일 없음
+ * - 게시글별 키는 같은 해시 슬롯({board-like:id})에 두어 클러스터에서도 스크립트 실행 가능
+ * - 변경이 생긴 게시글 id 는 DIRTY_KEY, 적재된 게시글 id 는 LOADED_KEY 에 기록 (전역 키 → 스크립트 밖에서 갱신)
+ */
+@Component
+public class BoardLikeStore {
+
+    private static final String DIRTY_KEY = "board-like:dirty";
+    private static final String LOADED_KEY = "board-like:loaded";
+    private static final String LOADED_MEMBER = "loaded";
+
+    private static final String LIKE = "1";
+    private static final String UNLIKE = "0";
+
+    // KEYS[1]=users, KEYS[2]=pending, ARGV[1]=userId, ARGV[2]=1(좋아요)/0(취소), ARGV[3]=ttl(sec)
+    // 반환: -1 = 적재 전, 0 = 변경 없음, 1 = 변경됨
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local changed
+            if ARGV[2] == '1' then
+                changed = redis.call('SADD', KEYS[1], ARGV[1])
+            else
+                changed = redis.call('SREM', KEYS[1], ARGV[1])
+            end
+            if changed == 1 then
+                redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return changed
+            """, Long.class);
+
+    // KEYS[1]=users, KEYS[2]=flushing, KEYS[3]=pending, ARGV[1]=ttl(sec), ARGV[2]=LOADED, ARGV[3..]=DB 의 사용자 id
+    // DB 조회와 적재 사이에 다른 노드가 먼저 적재했으면 그대로 둠
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('SADD', KEYS[1], ARGV[2])
+            for i = 3, #ARGV do
+                redis.call('SADD', KEYS[1], ARGV[i])
+            end
+            for k = 2, 3 do
+                local changes = redis.call('HGETALL', KEYS[k])
+                for i = 1, #changes, 2 do
+                    if changes[i + 1] == '1' then
+                        redis.call('SADD', KEYS[1], changes[i])
+                    else
+                        redis.call('SREM', KEYS[1], changes[i])
+                    end
+                end
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=pending, KEYS[2]=flushing
+    // flushing 의 변경을 pending 으로 되돌림 (pending 에 더 최신 변경이 있으면 그쪽 유지)
+    private static final String RESTORE_LUA = """
+            local left = redis.call('HGETALL', KEYS[2])
+            for i = 1, #left, 2 do
+                redis.call('HSETNX', KEYS[1], left[i], left[i + 1])
+            end
+            redis.call('DEL', KEYS[2])
+            """;
+
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            RESTORE_LUA + "return #left / 2", Long.class);
+
+    // KEYS[1]=pending, KEYS[2]=flushing
+    // 이전 실행이 남긴 flushing(비정상 종료 등)은 pending 으로 합친 뒤 pending → flushing 으로 이동
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(RESTORE_LUA + """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    // KEYS[1]=users, KEYS[2]=pending, KEYS[3]=flushing
+    // DB 미반영 변경이 없을 때만 삭제 (다음 접근 시 DB 에서 다시 적재)
+    private static final RedisScript<Long> EVICT_IF_IDLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 or redis.call('EXISTS', KEYS[3]) == 1 then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    // 적재 중 잠금 재시도 간격
+    private static final long LOAD_LOCK_RETRY_MILLIS = 20;
+
+    private final StringRedisTemplate redisTemplate;
+    private final BoardLikeRepository boardLikeRepository;
+    private final long ttlSeconds;
+    private final Duration loadLockTimeout;
+    private final long loadLockWaitMillis;
+
+    public BoardLikeStore(
+            StringRedisTemplate redisTemplate,
+            BoardLikeRepository boardLikeRepository,
+            @Value("${app.board.like.ttl:7d}") Duration ttl,
+            @Value("${app.board.like.load-lock-timeout:10s}") Duration loadLockTimeout,
+            @Value("${app.board.like.load-lock-wait:2s}") Duration loadLockWait
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.boardLikeRepository = boardLikeRepository;
+        this.ttlSeconds = ttl.toSeconds();
+        this.loadLockTimeout = loadLockTimeout;
+        this.loadLockWaitMillis = loadLockWait.toMillis();
+    }
+
+    // ============================================================
+    // 좋아요 / 취소 / 조회 (요청 경로)
+    // ============================================================
+
+    /** 좋아요: 실제로 추가된 경우 true (이미 누른 경우 false) */
+    public boolean like(long boardId, long userId) {
+        return toggle(boardId, userId, LIKE);
+    }
+
+    /** 좋아요 취소: 실제로 제거된 경우 true */
+    public boolean unlike(long boardId, long userId) {
+        return toggle(boardId, userId, UNLIKE);
+    }
+
+    /** 좋아요 수 (SCARD, O(1)) */
+    public long count(long boardId) {
+        ensureLoaded(boardId);
+        Long size = redisTemplate.opsForSet().size(usersKey(boardId));
+        return size == null ? 0L : Math.max(size - 1, 0L);
+    }
+
+    public boolean isLiked(long boardId, long userId) {
+        ensureLoaded(boardId);
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(usersKey(boardId), String.valueOf(userId)));
+    }
+
+    private boolean toggle(long boardId, long userId, String op) {
+        Long result = runToggle(boardId, userId, op);
+        if (result != null && result < 0) {
+            load(boardId);
+            result = runToggle(boardId, userId, op);
+        }
+
+        if (result == null || result <= 0) return false;
+
+        markDirty(boardId);
+        return true;
+    }
+
+    private Long runToggle(long boardId, long userId, String op) {
+        return redisTemplate.execute(
+                TOGGLE_SCRIPT,
+                List.of(usersKey(boardId), pendingKey(boardId)),
+                String.valueOf(userId), op, String.valueOf(ttlSeconds)
+        );
+    }
+
+    private void ensureLoaded(long boardId) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(usersKey(boardId)))) {
+            load(boardId);
+        }
+    }
+
+    /**
+     * cold start: board_likes 에서 사용자 id 적재 (replica 지연으로 최근 변경이 빠지지 않도록 primary 에서 조회)
+     * - 반영 잠금 안에서 DB 조회 → 적재: 그 사이 flushing 이 커밋 / 삭제되지 않으므로 DB + pending + flushing 이 항상 일치
+     */
+    private void load(long boardId) {
+        lockForLoad(boardId);
+        try {
+            List<Long> userIds = DataSourceRouting.primary(() -> boardLikeRepository.findUserIdsByBoardId(boardId));
+
+            List<String> args = new ArrayList<>(userIds.size() + 2);
+            args.add(String.valueOf(ttlSeconds));
+            args.add(LOADED_MEMBER);
+            userIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+            redisTemplate.execute(
+                    LOAD_SCRIPT,
+                    List.of(usersKey(boardId), flushingKey(boardId), pendingKey(boardId)),
+                    args.toArray()
+            );
+        } finally {
+            unlockFlush(boardId);
+        }
+        redisTemplate.opsForSet().add(LOADED_KEY, String.valueOf(boardId));
+    }
+
+    /** 반영 중이면 끝날 때까지 대기 (게시글 하나의 반영은 짧음), load-lock-wait 초과 시 요청 실패 */
+    private void lockForLoad(long boardId) {
+        long deadline = System.currentTimeMillis() + loadLockWaitMillis;
+        while (!lockFlush(boardId, loadLockTimeout)) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new BusinessException(ErrorCode.INTERNAL_ERROR, "좋아요 적재 잠금 대기 시간 초과 (boardId=" + boardId + ")");
+            }
+            try {
+                Thread.sleep(LOAD_LOCK_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.INTERNAL_ERROR, "좋아요 적재 대기 중 인터럽트 (boardId=" + boardId + ")");
+            }
+        }
+    }
+
+    // ============================================================
+    // write-behind (BoardLikeFlushScheduler)
+    // ============================================================
+
+    /** 변경이 생긴 게시글 id 를 최대 n 개 꺼냄 (SPOP → 여러 노드가 같은 게시글을 나눠 갖지 않음) */
+    public List<Long> popDirty(int n) {
+        List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, n);
+        if (members == null) return List.of();
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    public void markDirty(long boardId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(boardId));
+    }
+
+    /** 게시글 단위 반영 잠금 (같은 사용자에 대한 변경이 노드 간에 순서가 뒤바뀌어 DB 에 쓰이지 않도록) */
+    public boolean lockFlush(long boardId, Duration timeout) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey(boardId), "1", timeout));
+    }
+
+    public void unlockFlush(long boardId) {
+        redisTemplate.delete(lockKey(boardId));
+    }
+
+    /** pending → flushing 으로 옮기고 변경 내용 반환 (사용자 id → true: 좋아요 / false: 취소) */
+    public Map<Long, Boolean> drain(long boardId) {
+        List<?> flat = redisTemplate.execute(DRAIN_SCRIPT, List.of(pendingKey(boardId), flushingKey(boardId)));
+
+        Map<Long, Boolean> changes = new LinkedHashMap<>();
+        if (flat == null) return changes;
+
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            changes.put(Long.valueOf(String.valueOf(flat.get(i))), LIKE.equals(String.valueOf(flat.get(i + 1))));
+        }
+        return changes;
+    }
+
+    /** DB 커밋 후 flushing 삭제 */
+    public void complete(long boardId) {
+        redisTemplate.delete(flushingKey(boardId));
+    }
+
+    /** DB 반영 실패: flushing 을 pending 으로 되돌리고 다음 주기에 재시도 */
+    public void restore(long boardId) {
+        redisTemplate.execute(RESTORE_SCRIPT, List.of(pendingKey(boardId), flushingKey(boardId)));
+        markDirty(boardId);
+    }
+
+    // ============================================================
+    // 정합성 점검 (BoardLikeConsistencyScheduler) / 정리
+    // ============================================================
+
+    /** 적재된 게시글 id 순회 (SSCAN → 한 번에 전체를 읽지 않음) */
+    public void forEachLoaded(LongConsumer action) {
+        ScanOptions options = ScanOptions.scanOptions().count(500).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(LOADED_KEY, options)) {
+            cursor.forEachRemaining(member -> action.accept(Long.parseLong(member)));
+        }
+    }
+
+    /** 적재된 좋아요 수, 키가 만료되었으면 null (적재 목록에서도 제거) */
+    public Long cachedCount(long boardId) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(usersKey(boardId)))) {
+            redisTemplate.opsForSet().remove(LOADED_KEY, String.valueOf(boardId));
+            return null;
+        }
+        Long size = redisTemplate.opsForSet().size(usersKey(boardId));
+        return size == null ? null : Math.max(size - 1, 0L);
+    }
+
+    /** DB 에 아직 반영되지 않은 변경이 있는지 */
+    public boolean hasUnflushed(long boardId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey(boardId)))
+                || Boolean.TRUE.equals(redisTemplate.hasKey(flushingKey(boardId)));
+    }
+
+    /** 미반영 변경이 없을 때만 집합 삭제 → 다음 접근 시 DB 기준으로 다시 적재 */
+    public boolean evictIfIdle(long boardId) {
+        Long deleted = redisTemplate.execute(
+                EVICT_IF_IDLE_SCRIPT,
+                List.of(usersKey(boardId), pendingKey(boardId), flushingKey(boardId))
+        );
+        if (deleted == null || deleted == 0) return false;
+
+        redisTemplate.opsForSet().remove(LOADED_KEY, String.valueOf(boardId));
+        return true;
+    }
+
+    /** 게시글 정리(purge) 시 모든 키 삭제 */
+    public void remove(long boardId) {
+        redisTemplate.delete(List.of(usersKey(boardId), pendingKey(boardId), flushingKey(boardId)));
+        redisTemplate.opsForSet().remove(LOADED_KEY, String.valueOf(boardId));
+        redisTemplate.opsForSet().remove(DIRTY_KEY, String.valueOf(boardId));
+    }
+
+    private static String usersKey(long boardId) {
+        return "{board-like:" + boardId + "}:users";
+    }
+
+    private static String pendingKey(long boardId) {
+        return "{board-like:" + boardId + "}:pending";
+    }
+
+    private static String flushingKey(long boardId) {
+        return "{board-like:" + boardId + "}:flushing";
+    }
+
+    private static String lockKey(long boardId) {
+        return "{board-like:" + boardId + "}:lock";
+    }
+}
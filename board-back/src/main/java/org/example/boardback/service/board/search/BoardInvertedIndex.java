@@ -0,0 +1,315 @@
+package org.example.boardback.service.board.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * === BoardInvertedIndex ===
+ * 게시글 제목 / 본문에 대한 메모리 역색인 (term → PostingList)
+ *
+ * - 문서 번호(docNo): 색인에 추가된 순서대로 0부터 부여 (게시글 id 와 별개)
+ *   : 수정 시 기존 docNo 를 삭제 표시(deleted)하고 새 docNo 로 다시 추가 → PostingList 는 항상 append-only
+ *   : 삭제 표시된 문서는 검색 시 건너뛰고, 다음 전체 재색인 때 제거됨
+ * - 랭킹: BM25 (제목 tf 에 가중치 TITLE_BOOST 적용), 동점이면 최근 색인된 문서 우선
+ * - 전체 재색인 중 들어온 변경은 대기열에 쌓았다가 새 색인으로 교체한 직후 다시 적용
+ */
+@Component
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "memory", matchIfMissing = true)
+public class BoardInvertedIndex {
+
+    public enum Field { TITLE, CONTENT, ALL }
+
+    public record Hits(List<Long> boardIds, int totalCount) {}
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private IndexData data = new IndexData();
+    private volatile boolean ready = false;
+
+    // 전체 재색인 중 들어온 변경 (재색인 완료 후 새 색인에 재적용)
+    private List<Runnable> pendingDuringRebuild = null;
+
+    /** 최초 전체 색인이 끝나기 전에는 false → 호출 측에서 DB 검색으로 대체 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void upsert(Long boardId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            data.remove(boardId);
+            data.add(boardId, title, content);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(() -> {
+                    data.remove(boardId);
+                    data.add(boardId, title, content);
+                });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            data.remove(boardId);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(() -> data.remove(boardId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return data.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 삭제 표시되었지만 아직 PostingList 에 남아 있는 문서 비율 */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return data.docCount == 0 ? 0 : (double) (data.docCount - data.liveCount) / data.docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ============================================================
+    // 전체 재색인
+    // ============================================================
+
+    /** 재색인 시작: 이후의 변경을 대기열에 기록 */
+    public Builder beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Builder();
+    }
+
+    /** 재색인 실패 시 대기열만 정리 (기존 색인 유지) */
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 락 없이 새 IndexData 를 채우는 빌더 (검색은 기존 색인으로 계속 처리) */
+    public final class Builder {
+        private final IndexData building = new IndexData();
+
+        public void add(Long boardId, String title, String content) {
+            building.add(boardId, title, content);
+        }
+
+        public void commit() {
+            building.postings.values().forEach(PostingList::trim);
+
+            lock.writeLock().lock();
+            try {
+                data = building;
+                pendingDuringRebuild.forEach(Runnable::run);
+                pendingDuringRebuild = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // ============================================================
+    // 검색
+    // ============================================================
+
+    public Hits search(String query, Field field, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(BoardTokenizer.tokenize(query)));
+        if (terms.isEmpty()) return new Hits(List.of(), 0);
+
+        lock.readLock().lock();
+        try {
+            return data.search(terms, field, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ============================================================
+    // 색인 데이터
+    // ============================================================
+
+    private static final class IndexData {
+        final Map<String, PostingList> postings = new HashMap<>();
+        final Map<Long, Integer> docNoByBoardId = new HashMap<>();
+        final BitSet deleted = new BitSet();
+
+        long[] boardIds = new long[1024];
+        int[] lengths = new int[1024];
+        int docCount;           // 부여된 docNo 수 (삭제 포함)
+        int liveCount;          // 삭제되지 않은 문서 수
+        long totalLength;       // 삭제되지 않은 문서의 토큰 수 합
+
+        void add(Long boardId, String title, String content) {
+            Map<String, int[]> tfs = new HashMap<>();
+            List<String> titleTokens = BoardTokenizer.tokenize(title);
+            List<String> contentTokens = BoardTokenizer.tokenize(content);
+
+            for (String token : titleTokens) tfs.computeIfAbsent(token, t -> new int[2])[0]++;
+            for (String token : contentTokens) tfs.computeIfAbsent(token, t -> new int[2])[1]++;
+
+            int docNo = docCount++;
+            if (docNo == boardIds.length) {
+                boardIds = Arrays.copyOf(boardIds, boardIds.length * 2);
+                lengths = Arrays.copyOf(lengths, lengths.length * 2);
+            }
+
+            int length = titleTokens.size() + contentTokens.size();
+            boardIds[docNo] = boardId;
+            lengths[docNo] = length;
+
+            tfs.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(docNo, tf[0], tf[1]));
+
+            docNoByBoardId.put(boardId, docNo);
+            liveCount++;
+            totalLength += length;
+        }
+
+        void remove(Long boardId) {
+            Integer docNo = docNoByBoardId.remove(boardId);
+            if (docNo == null) return;
+
+            deleted.set(docNo);
+            liveCount--;
+            totalLength -= lengths[docNo];
+        }
+
+        /**
+         * AND 검색: 문서 수가 가장 적은 토큰의 커서를 기준으로 나머지 커서를 advance (leapfrog)
+         * - 어느 한 커서가 기준 문서를 지나치면 기준 커서를 그 문서까지 건너뜀
+         * - PostingList 를 배열로 풀지 않고 skip 목록으로 필요한 구간만 디코딩
+         */
+        Hits search(List<String> terms, Field field, int limit) {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) return new Hits(List.of(), 0);
+                lists.add(list);
+            }
+
+            // 문서 수가 적은 토큰이 기준 → 후보 수가 가장 적음
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            int n = lists.size();
+            PostingList.Cursor[] cursors = new PostingList.Cursor[n];
+            double[] idfs = new double[n];
+            for (int i = 0; i < n; i++) {
+                PostingList list = lists.get(i);
+                cursors[i] = list.cursor();
+                idfs[i] = Math.log(1 + (liveCount - list.size() + 0.5) / (list.size() + 0.5));
+            }
+
+            double avgLength = liveCount == 0 ? 1 : Math.max(1.0, (double) totalLength / liveCount);
+
+            int[] candidates = new int[lists.get(0).size()];
+            double[] scores = new double[candidates.length];
+            int count = 0;
+
+            PostingList.Cursor lead = cursors[0];
+            int target = 0;
+
+            search:
+            while (lead.advance(target)) {
+                int doc = lead.doc();
+
+                for (int i = 1; i < n; i++) {
+                    if (!cursors[i].advance(doc)) break search;
+                    if (cursors[i].doc() != doc) {
+                        target = cursors[i].doc();
+                        continue search;
+                    }
+                }
+                target = doc + 1;
+
+                if (deleted.get(doc)) continue;
+
+                double score = 0;
+                for (int i = 0; i < n; i++) {
+                    PostingList.Cursor cursor = cursors[i];
+                    if (!matches(field, cursor.titleTf(), cursor.contentTf())) continue search;
+                    score += score(idfs[i], cursor.titleTf(), cursor.contentTf(), field, lengths[doc], avgLength);
+                }
+
+                candidates[count] = doc;
+                scores[count] = score;
+                count++;
+            }
+
+            if (count == 0) return new Hits(List.of(), 0);
+            return new Hits(topK(candidates, scores, count, limit), count);
+        }
+
+        private static boolean matches(Field field, int titleTf, int contentTf) {
+            return switch (field) {
+                case TITLE -> titleTf > 0;
+                case CONTENT -> contentTf > 0;
+                case ALL -> titleTf > 0 || contentTf > 0;
+            };
+        }
+
+        private static double score(double idf, int titleTf, int contentTf, Field field, int length, double avgLength) {
+            int tf = switch (field) {
+                case TITLE -> titleTf;
+                case CONTENT -> contentTf;
+                case ALL -> titleTf * TITLE_BOOST + contentTf;
+            };
+            double norm = K1 * (1 - B + B * length / avgLength);
+            return idf * (tf * (K1 + 1)) / (tf + norm);
+        }
+
+        /** 점수 상위 limit 건 (동점이면 docNo 가 큰 = 최근 색인된 문서 우선) */
+        private List<Long> topK(int[] candidates, double[] scores, int count, int limit) {
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, (a, b) -> {
+                int cmp = Double.compare(scores[a], scores[b]);
+                return cmp != 0 ? cmp : Integer.compare(candidates[a], candidates[b]);
+            });
+
+            for (int i = 0; i < count; i++) {
+                heap.offer(i);
+                if (heap.size() > limit) heap.poll();
+            }
+
+            Long[] result = new Long[heap.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = boardIds[candidates[heap.poll()]];
+            }
+            return Arrays.asList(result);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.boardback.service.board.search;
+
+import org.example.boardback.repository.board.projection.BoardSummaryView;
+
+import java.util.List;
+
+/**
+ * === BoardSearchEngine ===
+ * 게시글 검색 백엔드 (app.board.search.engine 으로 선택)
+ * - memory  : 메모리 역색인 (기본값) - MemoryBoardSearchEngine
+ * - fulltext: MySQL FULLTEXT ngram 인덱스 - FulltextBoardSearchEngine
+ * - like    : LIKE '%q%' 스캔 - LikeBoardSearchEngine
+ *
+ * searchType: title / content / author / all
+ * indexed: 메모리 역색인으로 찾은 결과인지 (하이라이트는 이 경우에만 생성)
+ */
+public interface BoardSearchEngine {
+
+    record Result(List<BoardSummaryView> boards, long totalCount, boolean indexed) {}
+
+    Result search(String q, String searchType, int limit);
+}
@@ -0,0 +1,103 @@
+package org.example.boardback.service.board.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * === BoardSearchHighlighter ===
+ * - 검색어의 각 단어가 등장하는 위치를 <mark></mark> 로 감싼 HTML 조각 생성
+ * - 원문은 HTML 이스케이프 후 태그를 붙이므로 프론트에서 그대로 렌더링해도 안전
+ * - 본문은 첫 매칭 위치 주변 snippetLength 글자만 잘라서 반환
+ */
+public final class BoardSearchHighlighter {
+
+    private static final String OPEN = "<mark>";
+    private static final String CLOSE = "</mark>";
+
+    private BoardSearchHighlighter() {}
+
+    /** 제목: 전체 문자열에 하이라이트 (매칭이 없으면 null) */
+    public static String highlightTitle(String title, String query) {
+        List<int[]> ranges = findRanges(title, words(query));
+        return ranges.isEmpty() ? null : render(title, 0, title.length(), ranges);
+    }
+
+    /** 본문: 첫 매칭 위치 주변만 잘라서 하이라이트 (매칭이 없으면 null) */
+    public static String highlightContent(String content, String query, int snippetLength) {
+        List<int[]> ranges = findRanges(content, words(query));
+        if (ranges.isEmpty()) return null;
+
+        int first = ranges.get(0)[0];
+        int start = Math.max(0, first - snippetLength / 4);
+        int end = Math.min(content.length(), start + snippetLength);
+
+        String body = render(content, start, end, ranges);
+        return (start > 0 ? "…" : "") + body + (end < content.length() ? "…" : "");
+    }
+
+    private static List<String> words(String query) {
+        List<String> words = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (!word.isEmpty()) words.add(word);
+        }
+        return words;
+    }
+
+    /** 대소문자 무시, 겹치지 않는 [start, end) 구간 목록 (시작 위치 오름차순) */
+    private static List<int[]> findRanges(String text, List<String> words) {
+        List<int[]> ranges = new ArrayList<>();
+        if (text == null || words.isEmpty()) return ranges;
+
+        int i = 0;
+        while (i < text.length()) {
+            int matched = 0;
+            for (String word : words) {
+                if (word.length() > matched && text.regionMatches(true, i, word, 0, word.length())) {
+                    matched = word.length();
+                }
+            }
+            if (matched > 0) {
+                ranges.add(new int[]{i, i + matched});
+                i += matched;
+            } else {
+                i++;
+            }
+        }
+        return ranges;
+    }
+
+    private static String render(String text, int start, int end, List<int[]> ranges) {
+        StringBuilder sb = new StringBuilder(end - start + 32);
+        int pos = start;
+
+        for (int[] range : ranges) {
+            if (range[1] <= start) continue;
+            if (range[0] >= end) break;
+
+            int from = Math.max(range[0], start);
+            int to = Math.min(range[1], end);
+
+            escape(text, pos, from, sb);
+            sb.append(OPEN);
+            escape(text, from, to, sb);
+            sb.append(CLOSE);
+            pos = to;
+        }
+        escape(text, pos, end, sb);
+        return sb.toString();
+    }
+
+    private static void escape(String text, int from, int to, StringBuilder sb) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.boardback.service.board.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.event.board.BoardChangedEvent;
+import org.example.boardback.event.board.BoardsImportedEvent;
+import org.example.boardback.repository.board.BoardSearchSourceRepository;
+import org.example.boardback.repository.board.BoardSearchSourceRepository.BoardSearchSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * === BoardSearchIndexer ===
+ * - 기동 완료(ApplicationReadyEvent) 후 별도 스레드에서 boards 전체를 청크 단위로 읽어 색인 생성
+ *   (색인 완료 전 검색은 DB 검색으로 처리)
+ * - 게시글 생성 / 수정 / 삭제 커밋 후 BoardChangedEvent 로 색인을 즉시 갱신
+ * - 대량 가져오기(BoardsImportedEvent) 후에는 행 단위 갱신 대신 별도 스레드에서 전체 재색인
+ * - 삭제 표시된 문서 비율이 임계치를 넘으면 주기적으로 전체 재색인 (PostingList 정리)
+ * - 재색인은 전용 스레드 1개에서만 실행 (스케줄러 / 이벤트 발행 스레드를 붙잡지 않음)
+ * - 재색인 중에 들어온 요청은 버리지 않고, 현재 재색인이 끝난 뒤 한 번 더 실행 (여러 건이면 한 번으로 합침)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "memory", matchIfMissing = true)
+public class BoardSearchIndexer {
+
+    private final BoardInvertedIndex index;
+    private final BoardSearchSourceRepository boardSearchSourceRepository;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean(false);
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.board.search.rebuild-chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.board.search.compact-deleted-ratio:0.3}")
+    private double compactDeletedRatio;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    @EventListener
+    public void onBoardsImported(BoardsImportedEvent event) {
+        if (event.importedCount() > 0) rebuildAsync();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index.upsert(event.boardId(), event.title(), event.content());
+            case DELETED -> index.remove(event.boardId());
+        }
+    }
+
+    @Scheduled(cron = "${app.board.search.compact-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void compactIfNeeded() {
+        if (!index.isReady()) return;
+
+        if (index.deletedRatio() >= compactDeletedRatio) {
+            rebuildAsync();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /** 이미 대기열에 있는 재색인이 있으면 그 실행에 합침 */
+    private void rebuildAsync() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * 전체 재색인
+     * - 다른 스레드가 재색인 중이면 요청 표시만 남기고 반환 → 실행 중인 스레드가 끝난 뒤 한 번 더 실행
+     *   (그 사이 커밋된 행까지 포함되도록)
+     */
+    public void rebuild() {
+        rebuildRequested.set(true);
+
+        while (rebuildRequested.get() && rebuilding.compareAndSet(false, true)) {
+            try {
+                rebuildRequested.set(false);
+                rebuildOnce();
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+    }
+
+    private void rebuildOnce() {
+        long startedAt = System.currentTimeMillis();
+        BoardInvertedIndex.Builder builder = index.beginRebuild();
+
+        try {
+            long lastId = 0;
+            int total = 0;
+
+            while (true) {
+                List<BoardSearchSource> chunk = boardSearchSourceRepository.findChunkAfter(lastId, chunkSize);
+                if (chunk.isEmpty()) break;
+
+                for (BoardSearchSource source : chunk) {
+                    builder.add(source.id(), source.title(), source.content());
+                }
+                total += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+
+            builder.commit();
+            log.info("[BoardSearchIndexer] 색인 완료 - {}건, {}ms", total, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            index.abortRebuild();
+            log.error("[BoardSearchIndexer] 색인 실패 - 기존 색인 유지", e);
+        }
+    }
+}
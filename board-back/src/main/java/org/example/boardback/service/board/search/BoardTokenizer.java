@@ -0,0 +1,70 @@
+package org.example.boardback.service.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * === BoardTokenizer ===
+ * - 한국어 형태소 분석 없이 사용할 수 있는 bigram(2-gram) 토크나이저
+ * - NFKC 정규화 + 소문자 변환 후 글자/숫자 연속 구간(단어) 단위로 분리
+ * - 2글자 이상 단어: 인접한 두 글자씩 토큰화 ("게시판검색" → 게시, 시판, 판검, 검색)
+ * - 1글자 단어: 그 글자 자체를 토큰으로 사용
+ *
+ * 질의도 같은 방식으로 토큰화하여 모든 토큰을 포함하는 문서를 찾음 (AND)
+ */
+public final class BoardTokenizer {
+
+    private BoardTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String normalized = normalize(text);
+        int length = normalized.length();
+        int start = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWordTokens(normalized, start, i, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 색인으로 검색 가능한 질의인지 여부
+     * - 1글자 단어만으로 이루어진 질의는 다른 단어 내부의 글자와 매칭할 수 없으므로 색인 검색 대상 X
+     */
+    public static boolean isIndexable(String query) {
+        if (query == null) return false;
+
+        String normalized = normalize(query);
+        int run = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            run = Character.isLetterOrDigit(normalized.charAt(i)) ? run + 1 : 0;
+            if (run >= 2) return true;
+        }
+        return false;
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void addWordTokens(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.boardback.service.board.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.repository.board.BoardFulltextSearchRepository;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.board.projection.BoardSummaryView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색
+ * - 메모리 색인을 유지할 수 없는 배포 환경용 (색인은 DB 가 관리, 애플리케이션 메모리 사용 X)
+ * - MATCH ... AGAINST (IN BOOLEAN MODE) 로 모든 단어를 포함하는 글을 관련도 순으로 조회
+ *   (all: 제목 또는 본문 중 한 곳에 모든 단어가 포함된 글)
+ * - author, 2글자 미만 질의(ngram_token_size 미만), MySQL 이 아닌 DB(H2 등): LIKE 검색
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "fulltext")
+public class FulltextBoardSearchEngine implements BoardSearchEngine {
+
+    // BOOLEAN MODE 연산자 (사용자 입력에서 제거)
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private final BoardFulltextSearchRepository boardFulltextSearchRepository;
+    private final BoardRepository boardRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private boolean fulltextSupported;
+
+    @PostConstruct
+    void detectDatabase() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        fulltextSupported = product != null && product.toLowerCase().contains("mysql");
+        if (!fulltextSupported) {
+            log.info("[FulltextBoardSearch] {} 는 FULLTEXT 를 지원하지 않음 - LIKE 검색으로 대체", product);
+        }
+    }
+
+    @Override
+    public Result search(String q, String searchType, int limit) {
+        String booleanQuery = toBooleanQuery(q);
+
+        if ("author".equals(searchType) || !fulltextSupported || booleanQuery.isEmpty()) {
+            Page<BoardSummaryView> page = boardRepository.searchSummaries(q, searchType, PageRequest.of(0, limit));
+            return new Result(page.getContent(), page.getTotalElements(), false);
+        }
+
+        BoardFulltextSearchRepository.Mode mode = switch (searchType) {
+            case "title" -> BoardFulltextSearchRepository.Mode.TITLE;
+            case "content" -> BoardFulltextSearchRepository.Mode.CONTENT;
+            default -> BoardFulltextSearchRepository.Mode.ALL;
+        };
+
+        List<Long> ids = boardFulltextSearchRepository.searchIds(booleanQuery, mode, limit);
+        long totalCount = ids.size() < limit
+                ? ids.size()
+                : boardFulltextSearchRepository.count(booleanQuery, mode);
+
+        return new Result(boardRepository.findSummariesByIdsInOrder(ids), totalCount, false);
+    }
+
+    /** "스프링 부트" → "+스프링 +부트" (연산자 제거, 2글자 미만 단어 제외) */
+    private String toBooleanQuery(String q) {
+        List<String> words = new ArrayList<>();
+        for (String word : q.replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+")) {
+            if (word.length() >= 2) words.add("+" + word);
+        }
+        return String.join(" ", words);
+    }
+}
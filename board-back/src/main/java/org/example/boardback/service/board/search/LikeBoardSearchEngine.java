@@ -0,0 +1,26 @@
+package org.example.boardback.service.board.search;
+
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.board.projection.BoardSummaryView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIKE '%q%' 검색 (인덱스를 사용할 수 없는 전체 스캔 - 소규모 데이터 / 비교용)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "like")
+public class LikeBoardSearchEngine implements BoardSearchEngine {
+
+    private final BoardRepository boardRepository;
+
+    @Override
+    public Result search(String q, String searchType, int limit) {
+        Page<BoardSummaryView> page = boardRepository.searchSummaries(q, searchType, PageRequest.of(0, limit));
+        return new Result(page.getContent(), page.getTotalElements(), false);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.boardback.service.board.search;
+
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.board.projection.BoardSummaryView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메모리 역색인(BoardInvertedIndex) 검색
+ * - title / content / all: 색인으로 랭킹 (all 은 색인 결과 뒤에 작성자 닉네임 매칭 결과를 이어 붙임)
+ * - author, 1글자 질의, 최초 색인 완료 전: LIKE 검색
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "memory", matchIfMissing = true)
+public class MemoryBoardSearchEngine implements BoardSearchEngine {
+
+    private final BoardInvertedIndex boardInvertedIndex;
+    private final BoardRepository boardRepository;
+
+    @Override
+    public Result search(String q, String searchType, int limit) {
+        if ("author".equals(searchType) || !boardInvertedIndex.isReady() || !BoardTokenizer.isIndexable(q)) {
+            Page<BoardSummaryView> page = boardRepository.searchSummaries(q, searchType, PageRequest.of(0, limit));
+            return new Result(page.getContent(), page.getTotalElements(), false);
+        }
+
+        BoardInvertedIndex.Field field = switch (searchType) {
+            case "title" -> BoardInvertedIndex.Field.TITLE;
+            case "content" -> BoardInvertedIndex.Field.CONTENT;
+            default -> BoardInvertedIndex.Field.ALL;
+        };
+        BoardInvertedIndex.Hits hits = boardInvertedIndex.search(q, field, limit);
+
+        List<BoardSummaryView> boards = new ArrayList<>(boardRepository.findSummariesByIdsInOrder(hits.boardIds()));
+        long totalCount = hits.totalCount();
+
+        if (field == BoardInvertedIndex.Field.ALL && boards.size() < limit) {
+            Set<Long> found = new HashSet<>(hits.boardIds());
+            for (BoardSummaryView view : boardRepository
+                    .searchSummaries(q, "author", PageRequest.of(0, limit))
+                    .getContent()) {
+                if (boards.size() >= limit) break;
+                if (found.add(view.getId())) {
+                    boards.add(view);
+                    totalCount++;
+                }
+            }
+        }
+
+        return new Result(boards, totalCount, true);
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.boardback.service.board.search;
+
+import java.util.Arrays;
+
+/**
+ * === PostingList ===
+ * - 하나의 토큰(term)을 포함하는 문서 목록
+ * - 문서 번호(docNo)는 항상 증가하는 순서로만 추가됨 → 이전 문서 번호와의 차이(delta)를 저장
+ * - (delta, 제목 tf, 본문 tf) 를 가변 길이 정수(varint)로 byte[] 에 연속 기록
+ *   : 대부분의 값이 1바이트에 들어가므로 int[] 3개로 저장할 때보다 메모리 사용량이 크게 줄어듦
+ * - SKIP_INTERVAL 개마다 (직전 docNo, 바이트 위치) 를 skip 목록에 기록
+ *   → Cursor.advance 는 skip 목록을 지수 / 이진 탐색으로 건너뛴 뒤 그 구간만 디코딩
+ *
+ * 동기화는 BoardInvertedIndex 의 락에서 처리
+ */
+final class PostingList {
+
+    static final int SKIP_INTERVAL = 64;
+
+    private byte[] data = new byte[8];
+    private int length;     // 사용 중인 바이트 수
+    private int size;       // 문서 수
+    private int lastDoc = -1;
+
+    // skip k: (k + 1) * SKIP_INTERVAL 번째 항목의 시작 위치와 그 직전 항목의 docNo
+    private int[] skipDocs = new int[0];
+    private int[] skipOffsets = new int[0];
+    private int skipCount;
+
+    void add(int docNo, int titleTf, int contentTf) {
+        if (docNo <= lastDoc) {
+            throw new IllegalArgumentException("docNo must be increasing: " + docNo + " <= " + lastDoc);
+        }
+
+        if (size > 0 && size % SKIP_INTERVAL == 0) {
+            if (skipCount == skipDocs.length) {
+                int capacity = Math.max(4, skipDocs.length * 2);
+                skipDocs = Arrays.copyOf(skipDocs, capacity);
+                skipOffsets = Arrays.copyOf(skipOffsets, capacity);
+            }
+            skipDocs[skipCount] = lastDoc;
+            skipOffsets[skipCount] = length;
+            skipCount++;
+        }
+
+        // varint 최대 5바이트 * 3
+        if (length + 15 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 15));
+        }
+
+        writeVarInt(docNo - lastDoc);
+        writeVarInt(titleTf);
+        writeVarInt(contentTf);
+
+        lastDoc = docNo;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /** 추가가 끝난 뒤 남는 버퍼 공간 반환 (전체 재색인 직후 호출) */
+    void trim() {
+        if (data.length > length) {
+            data = Arrays.copyOf(data, length);
+        }
+        if (skipDocs.length > skipCount) {
+            skipDocs = Arrays.copyOf(skipDocs, skipCount);
+            skipOffsets = Arrays.copyOf(skipOffsets, skipCount);
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * 앞으로만 이동하는 순회 커서 (목록 전체를 배열로 풀지 않음)
+     * - 생성 직후에는 첫 문서 이전(doc() == -1)
+     */
+    final class Cursor {
+        private int pos;            // 다음에 읽을 바이트 위치
+        private int index;          // 다음에 읽을 항목 번호
+        private int skip;           // 아직 지나지 않은 첫 skip 번호
+        private int doc = -1;
+        private int titleTf;
+        private int contentTf;
+
+        int doc() {
+            return doc;
+        }
+
+        int titleTf() {
+            return titleTf;
+        }
+
+        int contentTf() {
+            return contentTf;
+        }
+
+        /** 다음 문서로 이동 (끝이면 false) */
+        boolean next() {
+            if (index >= size) {
+                doc = Integer.MAX_VALUE;
+                return false;
+            }
+
+            doc += readVarInt();
+            titleTf = readVarInt();
+            contentTf = readVarInt();
+            index++;
+            return true;
+        }
+
+        /** target 이상인 첫 문서로 이동 (현재 문서가 이미 target 이상이면 그대로, 끝이면 false) */
+        boolean advance(int target) {
+            if (doc >= target) return doc != Integer.MAX_VALUE;
+
+            skipTo(target);
+            while (next()) {
+                if (doc >= target) return true;
+            }
+            return false;
+        }
+
+        /** skipDocs[k] < target 인 마지막 skip 으로 점프 (지수 탐색 후 이진 탐색) */
+        private void skipTo(int target) {
+            if (skip >= skipCount || skipDocs[skip] >= target) return;
+
+            int bound = 1;
+            while (skip + bound < skipCount && skipDocs[skip + bound] < target) {
+                bound <<= 1;
+            }
+            int low = skip + (bound >> 1);
+            int high = Math.min(skip + bound, skipCount - 1);
+
+            // skipDocs[low] < target 이 보장됨 → 조건을 만족하는 마지막 위치 탐색
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (skipDocs[mid] < target) low = mid;
+                else high = mid - 1;
+            }
+
+            int entry = (low + 1) * SKIP_INTERVAL;
+            if (entry > index) {
+                pos = skipOffsets[low];
+                index = entry;
+                doc = skipDocs[low];
+            }
+            skip = low + 1;
+        }
+
+        private int readVarInt() {
+            int value = 0, shift = 0, b;
+            do {
+                b = data[pos++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package org.example.boardback.service.board.trending;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.board.projection.BoardCategoryIdView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * === BoardTrendingRanker ===
+ * 조회 / 좋아요 / 댓글에 시간 감쇠를 적용한 인기 글 순위 (Redis Sorted Set)
+ *
+ * - 점수 = Σ weight × 2^((t - epoch) / halfLife)
+ *   : 상호작용이 일어난 시점 기준으로 가중치를 키워서 더함 → 오래된 상호작용일수록 상대적으로 작아짐 (지수 감쇠)
+ *   : 기존 점수를 매번 다시 계산하지 않고 ZINCRBY 한 번으로 반영
+ * - 전체(all) + 카테고리별 Sorted Set 을 각각 상위 top-k 건으로 유지 (나머지는 ZREMRANGEBYRANK 로 제거)
+ * - 점수가 계속 커지지 않도록 BoardTrendingRebaseScheduler 가 주기적으로 epoch 를 현재 시각으로 옮기고
+ *   모든 점수에 2^(-(now - epoch) / halfLife) 를 곱함 (ZUNIONSTORE WEIGHTS)
+ * - 증가 / 재기준 모두 Lua 스크립트로 실행 → epoch 변경과 증가가 섞이지 않음
+ * - 키는 같은 해시 슬롯({board-trending})에 두어 클러스터에서도 스크립트 실행 가능
+ */
+@Slf4j
+@Component
+public class BoardTrendingRanker {
+
+    private static final String KEY_PREFIX = "{board-trending}:";
+    private static final String EPOCH_KEY = KEY_PREFIX + "epoch";
+    private static final String ALL_KEY = KEY_PREFIX + "all";
+
+    // KEYS[1]=epoch, KEYS[2]=all, KEYS[3..]=게시글별 카테고리 키
+    // ARGV[1]=now(sec), ARGV[2]=halfLife(sec), ARGV[3]=topK, ARGV[4..]=(boardId, weight) 쌍
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local now, halfLife, topK = tonumber(ARGV[1]), tonumber(ARGV[2]), tonumber(ARGV[3])
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            if not epoch then
+                epoch = now
+                redis.call('SET', KEYS[1], now)
+            end
+            local factor = math.pow(2, (now - epoch) / halfLife)
+            local touched = { [KEYS[2]] = true }
+            for i = 3, #KEYS do
+                local member = ARGV[2 * i - 2]
+                local increment = tonumber(ARGV[2 * i - 1]) * factor
+                redis.call('ZINCRBY', KEYS[2], increment, member)
+                redis.call('ZINCRBY', KEYS[i], increment, member)
+                touched[KEYS[i]] = true
+            end
+            for key in pairs(touched) do
+                redis.call('ZREMRANGEBYRANK', key, 0, -(topK + 1))
+            end
+            return #KEYS - 2
+            """, Long.class);
+
+    // KEYS[1]=epoch, KEYS[2..]=Sorted Set 목록, ARGV[1]=now(sec), ARGV[2]=halfLife(sec), ARGV[3]=최소 점수
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            redis.call('SET', KEYS[1], ARGV[1])
+            if not epoch then
+                return 0
+            end
+            local factor = math.pow(2, -(tonumber(ARGV[1]) - epoch) / tonumber(ARGV[2]))
+            for i = 2, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('ZUNIONSTORE', KEYS[i], 1, KEYS[i], 'WEIGHTS', factor)
+                    redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', '(' .. ARGV[3])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // 재기준 후 이 점수 미만(충분히 감쇠된 글)은 제거
+    private static final String MIN_SCORE = "0.01";
+
+    private final StringRedisTemplate redisTemplate;
+    private final BoardRepository boardRepository;
+
+    private final long halfLifeSeconds;
+    private final int topK;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+
+    public BoardTrendingRanker(
+            StringRedisTemplate redisTemplate,
+            BoardRepository boardRepository,
+            @Value("${app.board.trending.half-life:6h}") Duration halfLife,
+            @Value("${app.board.trending.top-k:500}") int topK,
+            @Value("${app.board.trending.weight.view:1}") double viewWeight,
+            @Value("${app.board.trending.weight.like:5}") double likeWeight,
+            @Value("${app.board.trending.weight.comment:10}") double commentWeight
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.boardRepository = boardRepository;
+        this.halfLifeSeconds = halfLife.toSeconds();
+        this.topK = topK;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    // ============================================================
+    // 상호작용 반영
+    // ============================================================
+
+    /** 조회수 배치 반영 시 함께 호출 (게시글별 증가분을 스크립트 1회로 반영) */
+    public void recordViews(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+
+        Map<Long, Long> categories = boardRepository.findCategoryIdsByIds(deltas.keySet()).stream()
+                .collect(Collectors.toMap(BoardCategoryIdView::getId, BoardCategoryIdView::getCategoryId));
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        deltas.forEach((boardId, delta) -> {
+            Long categoryId = categories.get(boardId);
+            if (categoryId == null) return;     // 그 사이 삭제된 글
+
+            keys.add(categoryKey(categoryId));
+            args.add(String.valueOf(boardId));
+            args.add(String.valueOf(delta * viewWeight));
+        });
+
+        execute(keys, args);
+    }
+
+    /** 좋아요(+1) / 좋아요 취소(-1): 트랜잭션 커밋 후 반영 */
+    public void recordLike(Long boardId, int direction) {
+        afterCommit(() -> record(boardId, likeWeight * direction));
+    }
+
+    /** 댓글 작성(+1) / 삭제(-1): 트랜잭션 커밋 후 반영 */
+    public void recordComment(Long boardId, int direction) {
+        afterCommit(() -> record(boardId, commentWeight * direction));
+    }
+
+    /** 게시글 삭제: 순위에서 제거 */
+    public void remove(Long boardId, Long categoryId) {
+        afterCommit(() -> {
+            String member = String.valueOf(boardId);
+            redisTemplate.opsForZSet().remove(ALL_KEY, member);
+            redisTemplate.opsForZSet().remove(categoryKey(categoryId), member);
+        });
+    }
+
+    /** 카테고리 변경: 기존 카테고리 점수를 새 카테고리로 이동 */
+    public void moveCategory(Long boardId, Long fromCategoryId, Long toCategoryId) {
+        if (fromCategoryId.equals(toCategoryId)) return;
+
+        afterCommit(() -> {
+            String member = String.valueOf(boardId);
+            Double score = redisTemplate.opsForZSet().score(categoryKey(fromCategoryId), member);
+            redisTemplate.opsForZSet().remove(categoryKey(fromCategoryId), member);
+            if (score != null) {
+                redisTemplate.opsForZSet().incrementScore(categoryKey(toCategoryId), member, score);
+            }
+        });
+    }
+
+    // ============================================================
+    // 조회 / 재기준
+    // ============================================================
+
+    /** 상위 n 건 게시글 id (ZREVRANGE: O(log N + n)), categoryId 가 null 이면 전체 */
+    public List<Long> topIds(Long categoryId, int n) {
+        String key = categoryId == null ? ALL_KEY : categoryKey(categoryId);
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, n - 1);
+
+        if (members == null) return List.of();
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /** epoch 를 현재 시각으로 옮기고 모든 점수를 같은 비율로 축소 (순위는 그대로) */
+    public void rebase(Collection<Long> categoryIds) {
+        List<String> keys = new ArrayList<>();
+        keys.add(EPOCH_KEY);
+        keys.add(ALL_KEY);
+        categoryIds.forEach(categoryId -> keys.add(categoryKey(categoryId)));
+
+        redisTemplate.execute(
+                REBASE_SCRIPT,
+                keys,
+                String.valueOf(nowSeconds()),
+                String.valueOf(halfLifeSeconds),
+                MIN_SCORE
+        );
+    }
+
+    private void record(Long boardId, double weight) {
+        Long categoryId = boardRepository.findCategoryIdById(boardId).orElse(null);
+        if (categoryId == null) return;
+
+        execute(List.of(categoryKey(categoryId)), List.of(String.valueOf(boardId), String.valueOf(weight)));
+    }
+
+    /** 순위 갱신 실패는 본 요청에 영향을 주지 않음 (다음 상호작용부터 다시 반영) */
+    private void execute(List<String> categoryKeys, List<String> memberWeights) {
+        if (categoryKeys.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(categoryKeys.size() + 2);
+        keys.add(EPOCH_KEY);
+        keys.add(ALL_KEY);
+        keys.addAll(categoryKeys);
+
+        List<String> args = new ArrayList<>(memberWeights.size() + 3);
+        args.add(String.valueOf(nowSeconds()));
+        args.add(String.valueOf(halfLifeSeconds));
+        args.add(String.valueOf(topK));
+        args.addAll(memberWeights);
+
+        try {
+            redisTemplate.execute(RECORD_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.warn("[BoardTrending] 순위 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        Runnable safe = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("[BoardTrending] 순위 반영 실패: {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+
+    private static String categoryKey(Long categoryId) {
+        return KEY_PREFIX + "category:" + categoryId;
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.boardback.service.board.view;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * === BoardViewCountBuffer ===
+ * - 조회수 증가를 DB 에 바로 쓰지 않고 메모리에 누적 (write-behind)
+ * - 게시글 id 별 LongAdder: 내부적으로 셀을 분산(striping)하여 인기 글에 동시 증가가 몰려도 락 없이 처리
+ * - BoardViewCountFlushScheduler 가 주기적으로 drain() 하여 배치 UPDATE 로 반영
+ * - 존재하는 게시글만 누적 (BoardServiceImpl.increaseViewCount 에서 확인) → 임의 id 로 맵이 커지지 않음
+ */
+@Component
+public class BoardViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long boardId) {
+        counters.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    /** 아직 DB 에 반영되지 않은 증가분 (상세 조회 시 표시용) */
+    public long pending(Long boardId) {
+        LongAdder adder = counters.get(boardId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 증가분을 꺼내고 0 으로 초기화
+     * - sumThenReset: 셀마다 getAndSet(0) → 읽는 도중 들어온 증가분은 이번 값 또는 남은 셀 값으로 남음 (유실 X)
+     * - 한 주기 내내 증가가 없던 항목만 맵에서 제거 (메모리 정리)
+     *   : 제거 직전에 제거된 adder 로 들어온 증가분은 다시 꺼내 다음 주기로 넘김
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        counters.forEach((boardId, adder) -> {
+            long delta = adder.sumThenReset();
+
+            if (delta > 0) {
+                deltas.put(boardId, delta);
+                return;
+            }
+
+            if (counters.remove(boardId, adder)) {
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    counters.computeIfAbsent(boardId, id -> new LongAdder()).add(late);
+                }
+            }
+        });
+
+        return deltas;
+    }
+
+    /** DB 반영 실패 시 증가분을 버퍼로 되돌림 (다음 주기에 재시도) */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((boardId, delta) ->
+                counters.computeIfAbsent(boardId, id -> new LongAdder()).add(delta));
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.boardback.service.board.view;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.boardback.config.BoardViewProperties;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.board.BoardViewDedupRepository;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * === BoardViewDeduplicator ===
+ * - (게시글, 사용자 또는 IP) 조합당 윈도우 내 1회만 조회수로 인정
+ * - 재조회(새로고침 등)는 Redis 왕복 1회로 끝나고 DB 쓰기 없음
+ * - 사용자 id / IP 는 해시하여 Redis 키에 원문이 남지 않도록 함
+ * - Redis 장애 시에는 조회수를 세는 쪽으로 동작 (fail-open)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewDeduplicator {
+
+    private final BoardViewProperties properties;
+    private final BoardViewDedupRepository boardViewDedupRepository;
+    private final BoardRepository boardRepository;
+
+    public boolean isFirstView(Long boardId, Long userId, String clientIp) {
+        if (!properties.isDedupEnabled()) return true;
+
+        Duration window = resolveWindow(boardId);
+        if (window.isZero() || window.isNegative()) return true;
+
+        String viewer = userId != null ? "u:" + userId : "ip:" + clientIp;
+
+        try {
+            return boardViewDedupRepository.markViewed(boardId, hash(viewer), window);
+        } catch (Exception e) {
+            log.warn("[BoardViewDedup] Redis 오류 - 중복 제거 없이 집계: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /** 카테고리별 윈도우가 설정된 경우에만 게시글의 카테고리를 조회 */
+    private Duration resolveWindow(Long boardId) {
+        if (properties.getCategoryWindows().isEmpty()) {
+            return properties.getDedupWindow();
+        }
+
+        return boardRepository.findCategoryIdById(boardId)
+                .map(categoryId -> properties.getCategoryWindows()
+                        .getOrDefault(categoryId, properties.getDedupWindow()))
+                .orElse(properties.getDedupWindow());
+    }
+
+    private String hash(String viewer) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(viewer.getBytes(StandardCharsets.UTF_8));
+            // 앞 16바이트만 사용 (키 길이 절약, 충돌 가능성은 무시 가능한 수준)
+            return HexFormat.of().formatHex(hashed, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
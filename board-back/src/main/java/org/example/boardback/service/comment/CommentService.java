@@ -0,0 +1,15 @@
+package org.example.boardback.service.comment;
+
+import jakarta.validation.Valid;
+import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.comment.request.CommentCreateRequestDto;
+import org.example.boardback.dto.comment.response.CommentResponseDto;
+
+import java.util.List;
+
+public interface CommentService {
+    ResponseDto<List<CommentResponseDto>> getComments(Long boardId);
+    ResponseDto<CommentResponseDto> createComment(Long boardId, @Valid CommentCreateRequestDto request);
+    ResponseDto<CommentResponseDto> updateComment(Long boardId, Long commentId, @Valid CommentCreateRequestDto request);
+    ResponseDto<Void> deleteComment(Long boardId, Long commentId);
+}
@@ -0,0 +1,122 @@
+package org.example.boardback.service.comment.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.dto.ResponseDto;
+import org.example.boardback.dto.comment.request.CommentCreateRequestDto;
+import org.example.boardback.dto.comment.response.CommentResponseDto;
+import org.example.boardback.entity.comment.Comment;
+import org.example.boardback.entity.user.User;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.comment.CommentRepository;
+import org.example.boardback.repository.user.UserRepository;
+import org.example.boardback.security.util.PrincipalUtils;
+import org.example.boardback.service.board.cache.BoardDetailCache;
+import org.example.boardback.service.board.cache.BoardListVersion;
+import org.example.boardback.service.board.trending.BoardTrendingRanker;
+import org.example.boardback.service.comment.CommentService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentServiceImpl implements CommentService {
+
+    private final CommentRepository commentRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardTrendingRanker boardTrendingRanker;
+    private final BoardListVersion boardListVersion;
+
+    /** 삭제된 게시글의 댓글은 조회 X (댓글 쿼리에는 게시글 삭제 조건이 없음) */
+    @Override
+    public ResponseDto<List<CommentResponseDto>> getComments(Long boardId) {
+        checkBoardExists(boardId);
+
+        List<CommentResponseDto> result = commentRepository.findWithWriterByBoardId(boardId).stream()
+                .map(comment -> CommentResponseDto.from(comment, boardId))
+                .toList();
+
+        return ResponseDto.success(result);
+    }
+
+    /** 댓글 작성 + boards.comment_count 원자적 +1 */
+    @Override
+    @Transactional
+    public ResponseDto<CommentResponseDto> createComment(Long boardId, CommentCreateRequestDto request) {
+        Long userId = PrincipalUtils.currentPrincipal().getId();
+
+        checkBoardExists(boardId);
+
+        User writer = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        Comment comment = Comment.builder()
+                .content(request.content())
+                .board(boardRepository.getReferenceById(boardId))
+                .writer(writer)
+                .build();
+
+        commentRepository.save(comment);
+        boardRepository.increaseCommentCount(boardId);
+        boardDetailCache.evict(boardId);
+        boardListVersion.bump();
+        boardTrendingRanker.recordComment(boardId, 1);
+
+        return ResponseDto.success(CommentResponseDto.from(comment, boardId));
+    }
+
+    @Override
+    @Transactional
+    public ResponseDto<CommentResponseDto> updateComment(Long boardId, Long commentId, CommentCreateRequestDto request) {
+        Comment comment = getOwnedComment(boardId, commentId);
+
+        comment.changeContent(request.content());
+
+        return ResponseDto.success(CommentResponseDto.from(comment, boardId));
+    }
+
+    /** 댓글 삭제 + boards.comment_count 원자적 -1 */
+    @Override
+    @Transactional
+    public ResponseDto<Void> deleteComment(Long boardId, Long commentId) {
+        Comment comment = getOwnedComment(boardId, commentId);
+
+        commentRepository.delete(comment);
+        boardRepository.decreaseCommentCount(boardId);
+        boardDetailCache.evict(boardId);
+        boardListVersion.bump();
+        boardTrendingRanker.recordComment(boardId, -1);
+
+        return ResponseDto.success("success");
+    }
+
+    /** 삭제되지 않은 게시글의 댓글이면서, 현재 사용자가 작성자인 경우에만 반환 */
+    private Comment getOwnedComment(Long boardId, Long commentId) {
+        Long userId = PrincipalUtils.currentPrincipal().getId();
+
+        checkBoardExists(boardId);
+
+        Comment comment = commentRepository.findById(commentId)
+                .filter(c -> c.getBoard().getId().equals(boardId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
+
+        if (!comment.getWriter().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        return comment;
+    }
+
+    /** Board 의 @SQLRestriction 으로 삭제된 게시글도 없는 것으로 판단 */
+    private void checkBoardExists(Long boardId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.boardback.common.retry;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticRetryAspectTest {
+
+    static class Target {
+        final AtomicInteger calls = new AtomicInteger();
+        int failures;
+
+        @OptimisticRetry(maxAttempts = 3, backoffMs = 1)
+        public String update() {
+            if (calls.incrementAndGet() <= failures) {
+                throw new OptimisticLockingFailureException("version mismatch");
+            }
+            return "ok";
+        }
+
+        @OptimisticRetry(maxAttempts = 3, backoffMs = 1)
+        public String fail() {
+            calls.incrementAndGet();
+            throw new IllegalStateException("not a conflict");
+        }
+    }
+
+    private Target proxy(Target target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new OptimisticRetryAspect());
+        return factory.getProxy();
+    }
+
+    @Test
+    void retriesConflictUntilSuccess() {
+        Target target = new Target();
+        target.failures = 2;
+
+        assertThat(proxy(target).update()).isEqualTo("ok");
+        assertThat(target.calls).hasValue(3);
+    }
+
+    @Test
+    void propagatesConflictAfterMaxAttempts() {
+        Target target = new Target();
+        target.failures = 5;
+
+        assertThatThrownBy(() -> proxy(target).update()).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(target.calls).hasValue(3);
+    }
+
+    @Test
+    void doesNotRetryOtherExceptions() {
+        Target target = new Target();
+
+        assertThatThrownBy(() -> proxy(target).fail()).isInstanceOf(IllegalStateException.class);
+        assertThat(target.calls).hasValue(1);
+    }
+}
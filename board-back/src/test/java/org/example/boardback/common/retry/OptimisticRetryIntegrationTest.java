@@ -0,0 +1,202 @@
+package org.example.boardback.common.retry;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.boardback.common.enums.user.AuthProvider;
+import org.example.boardback.config.JpaAuditingConfig;
+import org.example.boardback.entity.board.Board;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.entity.user.User;
+import org.example.boardback.repository.board.BoardCategoryRepository;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.user.UserRepository;
+import org.example.boardback.security.user.UserPrincipal;
+import org.example.boardback.service.board.BoardPinService;
+import org.example.boardback.service.board.cache.BoardDetailCache;
+import org.example.boardback.service.board.cache.BoardListVersion;
+import org.example.boardback.service.board.cache.PinnedBoardSnapshot;
+import org.example.boardback.service.board.impl.BoardPinServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @OptimisticRetry 실제 트랜잭션 검증 (H2)
+ * - BoardPinServiceImpl.pin 이 엔티티를 변경한 뒤(커밋 전) 다른 트랜잭션이 같은 글을 수정 / 커밋
+ *   → 커밋 시점 flush 에서 ObjectOptimisticLockingFailureException → 새 트랜잭션에서 다시 읽고 재실행
+ * - 시도마다 트랜잭션이 살아 있고 서로 다른 영속성 컨텍스트인지, 시도 횟수와 최종 상태(두 변경 모두 유지)를 확인
+ * - 글 수정의 버전 비교(BoardRepository.increaseVersion) 동작도 함께 확인
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, OptimisticRetryAspect.class, BoardPinServiceImpl.class,
+        OptimisticRetryIntegrationTest.AopConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OptimisticRetryIntegrationTest {
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class AopConfig {
+    }
+
+    @Autowired
+    private BoardPinService boardPinService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardCategoryRepository boardCategoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private BoardDetailCache boardDetailCache;
+
+    @MockitoBean
+    private PinnedBoardSnapshot pinnedBoardSnapshot;
+
+    @MockitoBean
+    private BoardListVersion boardListVersion;
+
+    private TransactionTemplate tx;
+    private TransactionTemplate newTx;
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        newTx = new TransactionTemplate(transactionManager);
+        newTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        boardId = tx.execute(status -> {
+            User writer = userRepository.save(User.builder()
+                    .username("writer")
+                    .password("pw")
+                    .email("writer@example.com")
+                    .nickname("작성자")
+                    .provider(AuthProvider.LOCAL)
+                    .build());
+            BoardCategory category = boardCategoryRepository.save(BoardCategory.builder().name("공지").build());
+
+            return boardRepository.save(Board.builder()
+                    .title("원래 제목")
+                    .excerpt("본문")
+                    .writer(writer)
+                    .category(category)
+                    .build()).getId();
+        });
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                admin(), null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        tx.executeWithoutResult(status -> {
+            boardRepository.deleteAllInBatch();
+            boardCategoryRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void commitTimeConflictIsRetriedInFreshTransaction() {
+        List<Object> persistenceContexts = new ArrayList<>();
+        doAnswer(invocation -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+            persistenceContexts.add(TransactionSynchronizationManager.getResource(entityManagerFactory));
+
+            // 첫 시도: pin() 변경이 flush 되기 전에 다른 요청의 글 수정이 먼저 커밋됨
+            if (persistenceContexts.size() == 1) {
+                editTitleInOtherTransaction("다른 요청의 제목");
+            }
+            return null;
+        }).when(boardDetailCache).evict(anyLong());
+
+        boardPinService.pin(boardId);
+
+        assertThat(persistenceContexts).hasSize(2);
+        assertThat(persistenceContexts.get(0)).isNotSameAs(persistenceContexts.get(1));
+        verify(boardDetailCache, times(2)).evict(boardId);
+        verify(boardListVersion, times(2)).bump();
+
+        Board board = tx.execute(status -> boardRepository.findById(boardId).orElseThrow());
+        assertThat(board.isPinned()).isTrue();
+        assertThat(board.getTitle()).isEqualTo("다른 요청의 제목");
+        assertThat(board.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void conflictOnEveryAttemptPropagatesAfterMaxAttempts() {
+        doAnswer(invocation -> {
+            editTitleInOtherTransaction("계속 바뀌는 제목");
+            return null;
+        }).when(boardDetailCache).evict(anyLong());
+
+        assertThatThrownBy(() -> boardPinService.pin(boardId))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        verify(boardDetailCache, times(3)).evict(boardId);
+        assertThat(tx.execute(status -> boardRepository.findById(boardId).orElseThrow().isPinned())).isFalse();
+    }
+
+    @Test
+    void increaseVersionSucceedsOnlyForCurrentVersion() {
+        assertThat(tx.execute(status -> boardRepository.increaseVersion(boardId, 0L))).isEqualTo(1);
+        assertThat(tx.execute(status -> boardRepository.increaseVersion(boardId, 0L))).isZero();
+        assertThat(tx.execute(status -> boardRepository.findById(boardId).orElseThrow().getVersion())).isEqualTo(1L);
+    }
+
+    private void editTitleInOtherTransaction(String title) {
+        newTx.executeWithoutResult(status -> {
+            Board board = boardRepository.findById(boardId).orElseThrow();
+            board.changeContent(title, board.getExcerpt(), board.getCategory());
+        });
+    }
+
+    private static UserPrincipal admin() {
+        return UserPrincipal.builder()
+                .id(1L)
+                .username("admin")
+                .password("pw")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.boardback.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.boardback.common.enums.user.RoleType;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.entity.user.Role;
+import org.example.boardback.repository.board.BoardCategoryRepository;
+import org.example.boardback.repository.user.RoleRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참조 엔티티 2차 캐시 / 쿼리 캐시 검증 (H2)
+ * - 2차 캐시는 커밋 시점에 반영되므로 테스트 트랜잭션 없이 조회마다 별도 트랜잭션(= 별도 영속성 컨텍스트) 으로 실행
+ * - Hibernate Statistics 의 실행 SQL 수 / 캐시 적중 수로 DB 조회 여부 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({HibernateCacheConfig.class, JpaAuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private BoardCategoryRepository boardCategoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        tx.executeWithoutResult(status -> roleRepository.save(new Role(RoleType.USER)));
+        categoryId = tx.execute(status ->
+                boardCategoryRepository.save(BoardCategory.builder().name("공지").build()).getId());
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            boardCategoryRepository.deleteAllInBatch();
+            roleRepository.deleteAllInBatch();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void repeatedRoleLookupHitsDatabaseOnce() {
+        for (int i = 0; i < 3; i++) {
+            Role role = tx.execute(status -> roleRepository.findById(RoleType.USER).orElseThrow());
+            assertThat(role.getName()).isEqualTo(RoleType.USER);
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.ROLE_REGION).getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void repeatedCategoryLookupHitsDatabaseOnce() {
+        for (int i = 0; i < 3; i++) {
+            tx.executeWithoutResult(status -> boardCategoryRepository.findById(categoryId).orElseThrow());
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.BOARD_CATEGORY_REGION).getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findAllCategoriesUsesQueryCache() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(tx.execute(status -> boardCategoryRepository.findAll())).hasSize(1);
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void addingCategoryInvalidatesQueryCache() {
+        tx.execute(status -> boardCategoryRepository.findAll());
+        tx.executeWithoutResult(status -> boardCategoryRepository.save(BoardCategory.builder().name("자유").build()));
+
+        List<BoardCategory> categories = tx.execute(status -> boardCategoryRepository.findAll());
+
+        assertThat(categories).extracting(BoardCategory::getName).containsExactlyInAnyOrder("공지", "자유");
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.boardback.config.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * primary / replica 라우팅 검증
+ * - 두 개의 H2 인메모리 DB 를 primary / replica 로 사용, 각 DB 의 node 테이블 값으로 어느 쪽에서 읽었는지 확인
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final AtomicLong SEQ = new AtomicLong();
+
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+
+    private StringRedisTemplate redisTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(redisTemplate, Duration.ofSeconds(3), currentUser::get);
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, replica, tracker));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        transactionManager.addListener(tracker);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicaAndWriteToPrimary() {
+        assertThat(readTx.execute(status -> node())).isEqualTo("replica");
+        assertThat(writeTx.execute(status -> node())).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void readRightAfterOwnWriteGoesToPrimary() {
+        currentUser.set(1L);
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+
+        assertThat(readTx.execute(status -> node())).isEqualTo("primary");
+        verify(redisTemplate.opsForValue()).set(eq(ReadYourWritesTracker.KEY_PREFIX + 1), anyString(), any(Duration.class));
+
+        currentUser.set(2L);
+        assertThat(readTx.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    void userRecordedByAnotherNodeAlsoReadsPrimary() {
+        currentUser.set(3L);
+        when(redisTemplate.hasKey(ReadYourWritesTracker.KEY_PREFIX + 3)).thenReturn(true);
+
+        assertThat(readTx.execute(status -> node())).isEqualTo("primary");
+    }
+
+    @Test
+    void rolledBackWriteIsNotRecorded() {
+        currentUser.set(4L);
+        writeTx.executeWithoutResult(status -> status.setRollbackOnly());
+
+        assertThat(readTx.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    void primaryBlockForcesPrimary() {
+        String node = readTx.execute(status -> DataSourceRouting.primary(this::node));
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + SEQ.incrementAndGet() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table node (name varchar(20))");
+        jdbc.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.boardback.entity.base.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SnowflakeIdGenerator 검증
+ * - 여러 스레드에서 동시에 생성해도 중복 없음
+ * - 시계 역행 / sequence 소진 시에도 항상 증가
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    void concurrentIdsAreUniqueAndIncreasingPerThread() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, System::currentTimeMillis);
+        int threads = 8;
+        int perThread = 100_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[perThread];
+                for (int i = 0; i < perThread; i++) ids[i] = generator.nextId();
+                return ids;
+            }));
+        }
+
+        Set<Long> all = new HashSet<>();
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get();
+            for (int i = 0; i < ids.length; i++) {
+                if (i > 0) assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                assertThat(SnowflakeIdGenerator.workerIdOf(ids[i])).isEqualTo(7);
+                all.add(ids[i]);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(all).hasSize(threads * perThread);
+    }
+
+    @Test
+    void clockMovingBackwardsStillIncreases() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long first = generator.nextId();
+        clock.set(NOW - 5_000);
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(SnowflakeIdGenerator.timestampOf(first).toEpochMilli()).isEqualTo(NOW);
+    }
+
+    @Test
+    void exhaustedSequenceBorrowsNextMillisecond() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        long last = 0;
+        for (int i = 0; i < 4096 + 1; i++) last = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(last).toEpochMilli()).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    void rejectsOutOfRangeWorkerId() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_WORKER_ID + 1, System::currentTimeMillis));
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.boardback.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.boardback.common.enums.user.AuthProvider;
+import org.example.boardback.common.enums.user.RoleType;
+import org.example.boardback.config.JpaAuditingConfig;
+import org.example.boardback.config.JpaFetchConfig;
+import org.example.boardback.entity.board.Board;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.entity.comment.Comment;
+import org.example.boardback.entity.file.BoardFile;
+import org.example.boardback.entity.file.FileInfo;
+import org.example.boardback.entity.user.Role;
+import org.example.boardback.entity.user.User;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.repository.comment.CommentRepository;
+import org.example.boardback.repository.file.BoardFileRepository;
+import org.example.boardback.repository.user.UserRepository;
+import org.example.boardback.support.QueryCountAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 용도별 fetch plan 검증 (H2)
+ * - 각 조회 + DTO 변환에 필요한 연관관계 접근까지를 한 단위로 보고 SQL 실행 횟수 상한을 검사
+ * - 시드 후 영속성 컨텍스트를 비워서 1차 캐시 없이 측정
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, JpaFetchConfig.class})
+class FetchPlanTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardFileRepository boardFileRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private QueryCountAssertions queries;
+    private final List<Long> boardIds = new ArrayList<>();
+    private Long writerId;
+
+    @BeforeEach
+    void setUp() {
+        queries = QueryCountAssertions.of(entityManagerFactory);
+
+        Role role = em.persist(new Role(RoleType.USER));
+        BoardCategory category = em.persist(BoardCategory.builder().name("자유").build());
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = User.builder()
+                    .username("user" + i)
+                    .password("pw")
+                    .email("user" + i + "@example.com")
+                    .nickname("닉네임" + i)
+                    .provider(AuthProvider.LOCAL)
+                    .build();
+            user.grantRole(role);
+            users.add(em.persist(user));
+        }
+        writerId = users.get(0).getId();
+
+        for (User writer : users) {
+            Board board = em.persist(Board.builder()
+                    .title("제목")
+                    .excerpt("본문")
+                    .writer(writer)
+                    .category(category)
+                    .build());
+            boardIds.add(board.getId());
+        }
+
+        Board first = em.find(Board.class, boardIds.get(0));
+        for (int i = 0; i < 3; i++) {
+            FileInfo info = em.persist(FileInfo.builder()
+                    .originalName("file" + i + ".png")
+                    .storedName("stored" + i)
+                    .filePath("/tmp/stored" + i)
+                    .build());
+            em.persist(BoardFile.of(first, info, i));
+            em.persist(Comment.builder().content("댓글" + i).board(first).writer(users.get(i)).build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void boardFilesFetchFileInfoInOneQuery() {
+        List<String> names = queries.atMost(1, () -> boardFileRepository
+                .findByBoardIdOrderByDisplayOrderAsc(boardIds.get(0)).stream()
+                .map(boardFile -> boardFile.getFileInfo().getOriginalName())
+                .toList());
+
+        assertThat(names).containsExactly("file0.png", "file1.png", "file2.png");
+    }
+
+    @Test
+    void boardDetailFetchesWriterAndCategoryInOneQuery() {
+        String summary = queries.atMost(1, () -> {
+            Board board = boardRepository.findDetailById(boardIds.get(0)).orElseThrow();
+            return board.getWriter().getNickname() + "/" + board.getCategory().getName();
+        });
+
+        assertThat(summary).isEqualTo("닉네임0/자유");
+    }
+
+    @Test
+    void commentsFetchWriterInOneQuery() {
+        List<String> writers = queries.atMost(1, () -> commentRepository
+                .findWithWriterByBoardId(boardIds.get(0)).stream()
+                .map(comment -> comment.getWriter().getNickname())
+                .toList());
+
+        assertThat(writers).hasSize(3);
+    }
+
+    @Test
+    void myInfoFetchesRolesInOneQuery() {
+        List<RoleType> roles = queries.atMost(1, () -> userRepository
+                .findWithRolesById(writerId).orElseThrow()
+                .getUserRoles().stream()
+                .map(userRole -> userRole.getRole().getName())
+                .toList());
+
+        assertThat(roles).containsExactly(RoleType.USER);
+    }
+
+    @Test
+    void lazyLoadingWithoutFetchPlanIsBatched() {
+        List<String> nicknames = queries.atMost(2, () -> boardRepository.findAllById(boardIds).stream()
+                .map(board -> board.getWriter().getNickname())
+                .toList());
+
+        assertThat(nicknames).containsExactlyInAnyOrder("닉네임0", "닉네임1", "닉네임2");
+    }
+}
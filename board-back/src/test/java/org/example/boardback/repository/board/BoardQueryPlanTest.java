@@ -0,0 +1,311 @@
+package org.example.boardback.repository.board;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 핫 쿼리 실행 계획(EXPLAIN) 검증
+ *
+ * - Repository 메서드를 실제로 호출하고 Hibernate 가 실행한 SQL 을 StatementInspector 로 받아 EXPLAIN
+ *   → JPQL / @SQLRestriction / 매핑이 바뀌면 검사 대상 SQL 도 함께 바뀜 (손으로 옮긴 SQL 이 실제와 어긋나지 않음)
+ * - board_v1.sql 의 users / board_categories / boards / board_category_stats DDL 을 그대로 실행 → 스키마(인덱스) 변경이 바로 반영됨
+ * - 시드 데이터 + ANALYZE TABLE 후 boards 접근이 기대한 인덱스를 사용하고,
+ *   전체 스캔(ALL / index) / filesort / temporary 가 없는지 확인
+ * - 실제 MySQL 이 필요하므로 bench.mysql.url 지정 시에만 실행
+ *   : 같은 서버에 임시 데이터베이스(board_plan_*)를 만들어 사용하고 종료 시 삭제 → 지정한 데이터베이스의 테이블은 건드리지 않음
+ *   : 접속 계정에 CREATE / DROP DATABASE 권한 필요
+ *   ./gradlew test --tests '*BoardQueryPlanTest' \
+ *       -Dbench.mysql.url=jdbc:mysql://localhost:3306/board -Dbench.mysql.user=root -Dbench.mysql.password=...
+ */
+@EnabledIfSystemProperty(named = "bench.mysql.url", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.example.boardback.repository.board.BoardQueryPlanTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext
+class BoardQueryPlanTest {
+
+    private static final List<String> TABLES = List.of("users", "board_categories", "boards", "board_category_stats");
+
+    private static final int USERS = 200;
+    private static final int CATEGORIES = 10;
+    private static final int BOARDS = 30_000;
+
+    private static final Pattern BOARDS_ALIAS = Pattern.compile("\\bboards\\s+(?:as\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private static String scratchDatabase;
+
+    /** Hibernate 가 실행하는 SQL 기록 (session_factory.statement_inspector) */
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardCategoryStatRepository boardCategoryStatRepository;
+
+    @DynamicPropertySource
+    static void scratchDataSource(DynamicPropertyRegistry registry) throws SQLException, IOException {
+        String url = System.getProperty("bench.mysql.url");
+        String serverUrl = url.substring(0, url.lastIndexOf('/') + 1);
+        scratchDatabase = "board_plan_" + System.currentTimeMillis();
+
+        try (Connection connection = connect(serverUrl)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE DATABASE " + scratchDatabase + " DEFAULT CHARSET utf8mb4 COLLATE utf8mb4_unicode_ci");
+            }
+            connection.setCatalog(scratchDatabase);
+
+            String schema = Files.readString(
+                    Path.of(System.getProperty("bench.schema", "../board_v1.sql")), StandardCharsets.UTF_8);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+                for (String table : TABLES) {
+                    statement.execute(createTableStatement(schema, table));
+                }
+                statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+            }
+
+            seed(connection);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE " + String.join(", ", TABLES));
+            }
+        }
+
+        registry.add("spring.datasource.url", () -> serverUrl + scratchDatabase);
+        registry.add("spring.datasource.username", () -> System.getProperty("bench.mysql.user", "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("bench.mysql.password", ""));
+    }
+
+    @AfterAll
+    static void dropScratchDatabase() throws SQLException {
+        if (scratchDatabase == null) return;
+
+        String url = System.getProperty("bench.mysql.url");
+        try (Connection connection = connect(url.substring(0, url.lastIndexOf('/') + 1));
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + scratchDatabase);
+        }
+    }
+
+    @BeforeEach
+    void clearCapturedSql() {
+        SqlCapture.SQL.clear();
+    }
+
+    @Test
+    void categoryListUsesCategoryCreatedAtIndex() throws SQLException {
+        boardRepository.findSummariesByCategoryId(3L, PageRequest.of(0, 200));
+
+        assertPlan("idx_boards_category_created_at", 3L, 200);
+    }
+
+    @Test
+    void myBoardsUsesUserCreatedAtIndex() throws SQLException {
+        boardRepository.findSummariesByWriterId(7L, PageRequest.of(0, 200));
+
+        assertPlan("idx_boards_user_created_at", 7L, 200);
+    }
+
+    @Test
+    void pinnedListUsesPinnedCreatedAtIndex() throws SQLException {
+        boardRepository.findPinnedSummaries();
+
+        assertPlan("idx_boards_pinned_created_at");
+    }
+
+    @Test
+    void cursorFirstPageUsesCreatedAtIndex() throws SQLException {
+        boardRepository.findFirstPageByCursor(PageRequest.of(0, 21));
+
+        assertPlan("idx_boards_created_at", 21);
+    }
+
+    @Test
+    void cursorNextPageUsesCreatedAtIndex() throws SQLException {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 0, 0);
+        boardRepository.findNextPageByCursor(createdAt, 15_000L, PageRequest.of(0, 21));
+
+        assertPlan("idx_boards_created_at", createdAt, createdAt, 15_000L, 21);
+    }
+
+    @Test
+    void categoryCountReconcileUsesCategoryIndex() throws SQLException {
+        boardCategoryStatRepository.reconcile(3L);
+
+        assertPlan("idx_boards_category_created_at", 3L);
+    }
+
+    // ============================================================
+
+    /**
+     * 마지막으로 실행된 boards 조회 SQL 을 같은 바인드 값으로 EXPLAIN
+     * @param binds SQL 의 ? 순서대로의 값 (Hibernate 는 LIMIT 도 바인드 파라미터로 보냄)
+     */
+    private static void assertPlan(String expectedBoardsIndex, Object... binds) throws SQLException {
+        String sql = lastBoardsStatement();
+        Matcher alias = BOARDS_ALIAS.matcher(sql);
+        assertThat(alias.find()).as("boards 별칭을 찾을 수 없음:%n%s", sql).isTrue();
+        String boardsAlias = alias.group(1);
+
+        List<String> problems = new ArrayList<>();
+        boolean boardsChecked = false;
+
+        String url = System.getProperty("bench.mysql.url");
+        try (Connection connection = connect(url.substring(0, url.lastIndexOf('/') + 1) + scratchDatabase);
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < binds.length; i++) {
+                statement.setObject(i + 1, binds[i]);
+            }
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    String type = rs.getString("type");
+                    String key = rs.getString("key");
+                    String extra = rs.getString("Extra") == null ? "" : rs.getString("Extra");
+
+                    if ("ALL".equals(type) || "index".equals(type)) {
+                        problems.add(table + ": full scan (type=" + type + ")");
+                    }
+                    if (extra.contains("Using filesort") || extra.contains("Using temporary")) {
+                        problems.add(table + ": " + extra);
+                    }
+                    if (boardsAlias.equals(table)) {
+                        boardsChecked = true;
+                        if (!expectedBoardsIndex.equals(key)) {
+                            problems.add(table + ": key=" + key + " (expected " + expectedBoardsIndex + ")");
+                        }
+                    }
+                }
+            }
+        }
+
+        assertThat(boardsChecked).as("boards 접근 계획 없음:%n%s", sql).isTrue();
+        assertThat(problems).as("실행 계획 문제:%n%s", sql).isEmpty();
+    }
+
+    private static String lastBoardsStatement() {
+        List<String> captured = SqlCapture.SQL;
+        for (int i = captured.size() - 1; i >= 0; i--) {
+            if (BOARDS_ALIAS.matcher(captured.get(i)).find()) return captured.get(i);
+        }
+        throw new AssertionError("boards 를 조회한 SQL 이 실행되지 않음: " + captured);
+    }
+
+    private static Connection connect(String url) throws SQLException {
+        return DriverManager.getConnection(
+                url + "?rewriteBatchedStatements=true",
+                System.getProperty("bench.mysql.user", "root"),
+                System.getProperty("bench.mysql.password", "")
+        );
+    }
+
+    /** board_v1.sql 에서 CREATE TABLE {table} ( ... ); 구문 추출 */
+    private static String createTableStatement(String schema, String table) {
+        Matcher matcher = Pattern.compile("CREATE TABLE " + table + "\\s*\\(.*?;", Pattern.DOTALL).matcher(schema);
+        if (!matcher.find()) {
+            throw new IllegalStateException("board_v1.sql 에 " + table + " 테이블 정의가 없습니다.");
+        }
+        String statement = matcher.group();
+        return statement.substring(0, statement.length() - 1);
+    }
+
+    private static void seed(Connection connection) throws SQLException {
+        Random random = new Random(7);
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement users = connection.prepareStatement("""
+                INSERT INTO users (username, email, nickname, provider, email_verified)
+                VALUES (?, ?, ?, 'LOCAL', TRUE)
+                """)) {
+            for (int i = 1; i <= USERS; i++) {
+                users.setString(1, "user" + i);
+                users.setString(2, "user" + i + "@example.com");
+                users.setString(3, "nick" + i);
+                users.addBatch();
+            }
+            users.executeBatch();
+        }
+
+        try (PreparedStatement categories = connection.prepareStatement(
+                "INSERT INTO board_categories (name) VALUES (?)")) {
+            for (int i = 1; i <= CATEGORIES; i++) {
+                categories.setString(1, "category" + i);
+                categories.addBatch();
+            }
+            categories.executeBatch();
+        }
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        try (PreparedStatement boards = connection.prepareStatement("""
+                INSERT INTO boards (title, excerpt, is_pinned, user_id, category_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (int i = 1; i <= BOARDS; i++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(random.nextInt(60 * 24 * 365)));
+
+                boards.setString(1, "title " + i);
+                boards.setString(2, "excerpt " + i);
+                boards.setBoolean(3, i % 1_000 == 0);
+                boards.setLong(4, 1 + random.nextInt(USERS));
+                boards.setLong(5, 1 + random.nextInt(CATEGORIES));
+                boards.setTimestamp(6, createdAt);
+                boards.setTimestamp(7, createdAt);
+                boards.addBatch();
+
+                if (i % 5_000 == 0) boards.executeBatch();
+            }
+            boards.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO board_category_stats (category_id, board_count) SELECT id, 0 FROM board_categories");
+        }
+
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.boardback.repository.board;
+
+import org.example.boardback.common.enums.user.AuthProvider;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.config.JpaAuditingConfig;
+import org.example.boardback.entity.board.Board;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.entity.board.BoardContent;
+import org.example.boardback.entity.comment.Comment;
+import org.example.boardback.entity.user.User;
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.BoardSearchSourceRepository.BoardSearchSource;
+import org.example.boardback.repository.board.projection.BoardSummaryView;
+import org.example.boardback.service.board.cache.BoardDetailCache;
+import org.example.boardback.service.board.cache.BoardListVersion;
+import org.example.boardback.service.board.trending.BoardTrendingRanker;
+import org.example.boardback.service.comment.CommentService;
+import org.example.boardback.service.comment.impl.CommentServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 삭제(soft delete)된 게시글 숨김 검증 (H2)
+ * - JPQL: Board 의 @SQLRestriction("deleted_at IS NULL") 으로 단건 / 목록 / 개수 조회에서 제외
+ * - 네이티브 / JDBC: 각 쿼리의 deleted_at IS NULL 조건으로 검색 원문 / 카테고리 게시글 수에서 제외
+ * - 댓글: 삭제된 게시글의 댓글 목록은 BOARD_NOT_FOUND
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, BoardSearchSourceRepository.class, CommentServiceImpl.class})
+class BoardSoftDeleteTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardSearchSourceRepository boardSearchSourceRepository;
+
+    @Autowired
+    private BoardCategoryStatRepository boardCategoryStatRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockitoBean private BoardDetailCache boardDetailCache;
+    @MockitoBean private BoardTrendingRanker boardTrendingRanker;
+    @MockitoBean private BoardListVersion boardListVersion;
+
+    private BoardCategory category;
+    private Board visible;
+    private Board deleted;
+
+    @BeforeEach
+    void setUp() {
+        User writer = em.persist(User.builder()
+                .username("writer")
+                .password("pw")
+                .email("writer@example.com")
+                .nickname("작성자")
+                .provider(AuthProvider.LOCAL)
+                .build());
+        category = em.persist(BoardCategory.builder().name("자유").build());
+
+        visible = board(writer, "남은 글");
+        deleted = board(writer, "삭제된 글");
+        em.persist(Comment.builder().content("댓글").board(visible).writer(writer).build());
+        em.persist(Comment.builder().content("댓글").board(deleted).writer(writer).build());
+        visible.pin();
+        deleted.pin();
+        deleted.markDeleted(LocalDateTime.now());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void jpqlQueriesHideDeletedBoards() {
+        assertThat(boardRepository.findById(deleted.getId())).isEmpty();
+        assertThat(boardRepository.findById(visible.getId())).isPresent();
+
+        Page<BoardSummaryView> page = boardRepository.findSummaryPage(PageRequest.of(0, 10));
+        assertThat(page.getContent()).extracting(BoardSummaryView::getId).containsExactly(visible.getId());
+        assertThat(page.getTotalElements()).isEqualTo(1);
+
+        assertThat(boardRepository.findFirstPageByCursor(PageRequest.of(0, 10)))
+                .extracting(BoardSummaryView::getId).containsExactly(visible.getId());
+        assertThat(boardRepository.findSummariesByCategoryId(category.getId(), PageRequest.of(0, 10)))
+                .extracting(BoardSummaryView::getId).containsExactly(visible.getId());
+        assertThat(boardRepository.findPinnedSummaries())
+                .extracting(BoardSummaryView::getId).containsExactly(visible.getId());
+        assertThat(boardRepository.findSummariesByIdsInOrder(List.of(deleted.getId(), visible.getId())))
+                .extracting(BoardSummaryView::getId).containsExactly(visible.getId());
+    }
+
+    @Test
+    void nativeQueriesHideDeletedBoards() {
+        assertThat(boardSearchSourceRepository.findChunkAfter(0L, 10))
+                .extracting(BoardSearchSource::id).containsExactly(visible.getId());
+        assertThat(boardSearchSourceRepository.findByIds(List.of(deleted.getId(), visible.getId())))
+                .extracting(BoardSearchSource::id).containsExactly(visible.getId());
+
+        boardCategoryStatRepository.insertMissingRows();
+        boardCategoryStatRepository.reconcile(category.getId());
+        em.clear();
+
+        assertThat(boardCategoryStatRepository.findById(category.getId()).orElseThrow().getBoardCount())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void commentsOfDeletedBoardAreNotListed() {
+        assertThat(commentService.getComments(visible.getId()).getData()).hasSize(1);
+
+        assertThatThrownBy(() -> commentService.getComments(deleted.getId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.BOARD_NOT_FOUND);
+    }
+
+    private Board board(User writer, String title) {
+        Board board = em.persist(Board.builder()
+                .title(title)
+                .excerpt("본문")
+                .writer(writer)
+                .category(category)
+                .build());
+        em.persist(new BoardContent(board, "본문", null));
+        return board;
+    }
+}
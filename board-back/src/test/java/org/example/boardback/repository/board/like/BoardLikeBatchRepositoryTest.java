@@ -0,0 +1,92 @@
+package org.example.boardback.repository.board.like;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 변경분 일괄 반영 검증 (H2 MySQL 모드, board_likes / boards 최소 스키마)
+ */
+class BoardLikeBatchRepositoryTest {
+
+    private static final AtomicLong SEQ = new AtomicLong();
+
+    private JdbcTemplate jdbcTemplate;
+    private BoardLikeBatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:like" + SEQ.incrementAndGet() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                create table boards (
+                    id bigint primary key,
+                    like_count int not null default 0,
+                    deleted_at datetime(6)
+                )
+                """);
+        jdbcTemplate.execute("""
+                create table board_likes (
+                    id bigint primary key,
+                    board_id bigint not null,
+                    user_id bigint not null,
+                    created_at datetime(6) not null,
+                    updated_at datetime(6) not null,
+                    constraint uk_board_like_user unique (board_id, user_id)
+                )
+                """);
+        jdbcTemplate.update("insert into boards (id) values (1)");
+
+        repository = new BoardLikeBatchRepository(jdbcTemplate, 0);
+    }
+
+    @Test
+    void appliesNetChangesAndAdjustsLikeCount() {
+        assertThat(repository.apply(1L, changes(10L, true, 11L, true, 12L, true))).isTrue();
+        assertThat(repository.apply(1L, changes(11L, false, 13L, true))).isFalse();   // -1 + 1
+
+        assertThat(likeCount()).isEqualTo(3);
+        assertThat(userIds()).containsExactlyInAnyOrder(10L, 12L, 13L);
+    }
+
+    @Test
+    void retriedChangesAreNotDuplicated() {
+        repository.apply(1L, changes(10L, true));
+
+        assertThat(repository.apply(1L, changes(10L, true, 20L, false))).isFalse();
+        assertThat(likeCount()).isEqualTo(1);
+        assertThat(userIds()).containsExactly(10L);
+    }
+
+    @Test
+    void skipsDeletedBoards() {
+        jdbcTemplate.update("update boards set deleted_at = current_timestamp where id = 1");
+
+        assertThat(repository.apply(1L, changes(10L, true))).isFalse();
+        assertThat(userIds()).isEmpty();
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("select like_count from boards where id = 1", Integer.class);
+    }
+
+    private List<Long> userIds() {
+        return jdbcTemplate.queryForList("select user_id from board_likes where board_id = 1", Long.class);
+    }
+
+    private static Map<Long, Boolean> changes(Object... userIdAndLiked) {
+        Map<Long, Boolean> changes = new LinkedHashMap<>();
+        for (int i = 0; i < userIdAndLiked.length; i += 2) {
+            changes.put((Long) userIdAndLiked[i], (Boolean) userIdAndLiked[i + 1]);
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.boardback.scheduler.board;
+
+import org.example.boardback.common.enums.user.AuthProvider;
+import org.example.boardback.config.JpaAuditingConfig;
+import org.example.boardback.entity.board.Board;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.entity.board.like.BoardLike;
+import org.example.boardback.entity.comment.Comment;
+import org.example.boardback.entity.user.User;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.scheduler.BatchJobRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 카운터(like_count / comment_count) 드리프트 보정 검증 (H2)
+ * - 원자적 증감 UPDATE 로 바뀐 카운터가 실제 board_likes / comments 개수와 어긋나면 reconcile 이 되돌리는지
+ * - 여러 id 구간(chunk)에 걸친 게시글을 모두 보정하고, 이미 맞는 행은 건드리지 않는지
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, BoardCounterReconcileScheduler.class})
+class BoardCounterReconcileSchedulerTest {
+
+    @Autowired
+    private BoardCounterReconcileScheduler scheduler;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockitoBean
+    private BatchJobRunner batchJobRunner;
+
+    private User writer;
+    private User reader;
+    private BoardCategory category;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(user("writer"));
+        reader = em.persist(user("reader"));
+        category = em.persist(BoardCategory.builder().name("자유").build());
+
+        // 구간 크기 1 → 게시글마다 별도 구간으로 보정
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 1);
+    }
+
+    @Test
+    void reconcileRepairsDriftedCountersAcrossChunks() {
+        Board liked = board("좋아요 2, 댓글 1");
+        em.persist(BoardLike.builder().board(liked).user(writer).build());
+        em.persist(BoardLike.builder().board(liked).user(reader).build());
+        em.persist(Comment.builder().content("댓글").board(liked).writer(reader).build());
+
+        Board commented = board("댓글 2");
+        em.persist(Comment.builder().content("댓글 1").board(commented).writer(writer).build());
+        em.persist(Comment.builder().content("댓글 2").board(commented).writer(reader).build());
+        em.flush();
+
+        // 실제 개수와 다르게 카운터 변경 (유실된 증가 / 중복 증가)
+        boardRepository.increaseCommentCount(commented.getId());
+        em.getEntityManager().createNativeQuery("UPDATE boards SET like_count = 7, comment_count = 0 WHERE id = :id")
+                .setParameter("id", liked.getId())
+                .executeUpdate();
+        em.clear();
+
+        scheduler.reconcile();
+        em.clear();
+
+        Board repairedLiked = boardRepository.findById(liked.getId()).orElseThrow();
+        assertThat(repairedLiked.getLikeCount()).isEqualTo(2);
+        assertThat(repairedLiked.getCommentCount()).isEqualTo(1);
+
+        Board repairedCommented = boardRepository.findById(commented.getId()).orElseThrow();
+        assertThat(repairedCommented.getLikeCount()).isZero();
+        assertThat(repairedCommented.getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileUpdatesOnlyDriftedRows() {
+        Board consistent = board("정상");
+        em.persist(Comment.builder().content("댓글").board(consistent).writer(reader).build());
+        boardRepository.increaseCommentCount(consistent.getId());
+
+        Board drifted = board("어긋남");
+        boardRepository.increaseCommentCount(drifted.getId());
+        em.flush();
+        em.clear();
+
+        assertThat(boardRepository.reconcileCounters(consistent.getId(), drifted.getId())).isEqualTo(1);
+        assertThat(boardRepository.reconcileCounters(consistent.getId(), drifted.getId())).isZero();
+
+        em.clear();
+        assertThat(boardRepository.findById(consistent.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+        assertThat(boardRepository.findById(drifted.getId()).orElseThrow().getCommentCount()).isZero();
+    }
+
+    private Board board(String title) {
+        return em.persist(Board.builder()
+                .title(title)
+                .excerpt("본문")
+                .writer(writer)
+                .category(category)
+                .build());
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .password("pw")
+                .email(username + "@example.com")
+                .nickname(username)
+                .provider(AuthProvider.LOCAL)
+                .build();
+    }
+}
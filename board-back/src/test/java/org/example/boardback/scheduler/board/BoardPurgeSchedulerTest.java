@@ -0,0 +1,166 @@
+package org.example.boardback.scheduler.board;
+
+import org.example.boardback.common.utils.DateTimeUtil;
+import org.example.boardback.repository.board.BoardPurgeRepository;
+import org.example.boardback.scheduler.BatchJobRunner;
+import org.example.boardback.service.board.like.BoardLikeStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 삭제된 게시글 정리 검증 (H2 MySQL 모드, 외래 키 포함 최소 스키마)
+ * - 좋아요 / 댓글 / 첨부 파일(매핑 + 파일 정보 + 물리 파일) / 본문 / 게시글 행이 모두 지워지는지
+ * - chunk-size 단위로 나눠 삭제하는지, 삭제되지 않은 게시글과 grace 이내 게시글은 건드리지 않는지
+ */
+class BoardPurgeSchedulerTest {
+
+    private static final AtomicLong SEQ = new AtomicLong();
+    private static final int CHUNK_SIZE = 2;
+
+    @TempDir
+    Path uploadDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private BoardPurgeRepository purgeRepository;
+    private BoardLikeStore boardLikeStore;
+    private BoardPurgeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:purge" + SEQ.incrementAndGet() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("create table boards (id bigint primary key, deleted_at datetime(6))");
+        jdbcTemplate.execute("""
+                create table board_contents (
+                    board_id bigint primary key,
+                    constraint fk_board_contents_board foreign key (board_id) references boards (id)
+                )
+                """);
+        jdbcTemplate.execute("""
+                create table board_likes (
+                    id bigint primary key,
+                    board_id bigint not null,
+                    constraint fk_board_like_board foreign key (board_id) references boards (id)
+                )
+                """);
+        jdbcTemplate.execute("""
+                create table comments (
+                    id bigint primary key,
+                    board_id bigint not null,
+                    constraint fk_comment_board foreign key (board_id) references boards (id)
+                )
+                """);
+        jdbcTemplate.execute("create table file_infos (id bigint primary key, file_path varchar(500) not null)");
+        jdbcTemplate.execute("""
+                create table board_files (
+                    id bigint primary key,
+                    board_id bigint not null,
+                    file_id bigint not null,
+                    constraint fk_board_files_board foreign key (board_id) references boards (id),
+                    constraint fk_board_files_file_info foreign key (file_id) references file_infos (id)
+                )
+                """);
+
+        purgeRepository = spy(new BoardPurgeRepository(new NamedParameterJdbcTemplate(jdbcTemplate)));
+        boardLikeStore = mock(BoardLikeStore.class);
+        scheduler = new BoardPurgeScheduler(mock(BatchJobRunner.class), purgeRepository, boardLikeStore);
+        ReflectionTestUtils.setField(scheduler, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(scheduler, "boardsPerRun", 10);
+        ReflectionTestUtils.setField(scheduler, "grace", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void purgeRemovesAllDependentRowsInChunks() throws IOException {
+        board(1L, DateTimeUtil.nowUtc().minusHours(1));
+        board(2L, null);
+        rows("board_likes", 1L, 5);      // 2 + 2 + 1
+        rows("comments", 1L, 4);         // 2 + 2 + 0
+        rows("board_likes", 2L, 1);
+        Path first = file(1L, 1L);
+        Path second = file(1L, 2L);
+        Path third = file(1L, 3L);
+        Path kept = file(2L, 4L);
+
+        scheduler.purge();
+
+        assertThat(count("boards where id = 1")).isZero();
+        assertThat(count("board_contents where board_id = 1")).isZero();
+        assertThat(count("board_likes where board_id = 1")).isZero();
+        assertThat(count("comments where board_id = 1")).isZero();
+        assertThat(count("board_files where board_id = 1")).isZero();
+        assertThat(count("file_infos where id in (1, 2, 3)")).isZero();
+        assertThat(first).doesNotExist();
+        assertThat(second).doesNotExist();
+        assertThat(third).doesNotExist();
+
+        verify(purgeRepository, times(3)).deleteLikes(1L, CHUNK_SIZE);
+        verify(purgeRepository, times(3)).deleteComments(1L, CHUNK_SIZE);
+        verify(purgeRepository, times(2)).findFiles(1L, CHUNK_SIZE);
+        verify(boardLikeStore).remove(1L);
+
+        // 삭제되지 않은 게시글은 그대로
+        assertThat(count("boards where id = 2")).isOne();
+        assertThat(count("board_likes where board_id = 2")).isOne();
+        assertThat(count("board_files where board_id = 2")).isOne();
+        assertThat(kept).exists();
+        verify(purgeRepository, never()).deleteLikes(eq(2L), anyInt());
+    }
+
+    @Test
+    void boardDeletedWithinGraceIsKept() {
+        board(1L, DateTimeUtil.nowUtc());
+        rows("comments", 1L, 1);
+
+        scheduler.purge();
+
+        assertThat(count("boards where id = 1")).isOne();
+        assertThat(count("comments where board_id = 1")).isOne();
+        verify(purgeRepository, never()).deleteFiles(anyList());
+    }
+
+    private void board(long id, LocalDateTime deletedAt) {
+        jdbcTemplate.update("insert into boards (id, deleted_at) values (?, ?)", id, deletedAt);
+        jdbcTemplate.update("insert into board_contents (board_id) values (?)", id);
+    }
+
+    private void rows(String table, long boardId, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("insert into " + table + " (id, board_id) values (?, ?)",
+                    SEQ.incrementAndGet(), boardId);
+        }
+    }
+
+    private Path file(long boardId, long fileInfoId) throws IOException {
+        Path path = Files.writeString(uploadDir.resolve("file-" + fileInfoId), "data");
+        jdbcTemplate.update("insert into file_infos (id, file_path) values (?, ?)", fileInfoId, path.toString());
+        jdbcTemplate.update("insert into board_files (id, board_id, file_id) values (?, ?, ?)",
+                SEQ.incrementAndGet(), boardId, fileInfoId);
+        return path;
+    }
+
+    private long count(String fromWhere) {
+        return jdbcTemplate.queryForObject("select count(*) from " + fromWhere, Long.class);
+    }
+}
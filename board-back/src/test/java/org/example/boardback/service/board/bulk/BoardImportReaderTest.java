@@ -0,0 +1,116 @@
+package org.example.boardback.service.board.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.boardback.dto.board.request.BoardImportRowDto;
+import org.example.boardback.service.board.bulk.BoardImportReader.Row;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardImportReader 검증
+ * - CSV: 따옴표 안의 쉼표 / "" / CRLF, BOM, 열 개수 불일치, 빈 마지막 줄, 레코드 시작 줄 번호
+ * - NDJSON: 빈 줄 무시, 형식 오류 행의 줄 번호
+ */
+class BoardImportReaderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private static final String HEADER = "title,content,writerId,categoryId\r\n";
+
+    @Test
+    void csvQuotedFieldKeepsCommasEscapedQuotesAndCrlf() throws IOException {
+        List<Row> rows = read(BoardImportFormat.CSV,
+                HEADER + "\"제목, 쉼표\",\"그가 \"\"안녕\"\"이라고\r\n말했다\",1,2\r\n");
+
+        assertThat(rows).hasSize(1);
+        BoardImportRowDto value = rows.get(0).value();
+        assertThat(value.title()).isEqualTo("제목, 쉼표");
+        assertThat(value.content()).isEqualTo("그가 \"안녕\"이라고\r\n말했다");
+        assertThat(value.writerId()).isEqualTo(1L);
+        assertThat(value.categoryId()).isEqualTo(2L);
+    }
+
+    @Test
+    void csvLineNumberIsWhereRecordStarts() throws IOException {
+        List<Row> rows = read(BoardImportFormat.CSV,
+                HEADER + "a,\"여러\n줄\n본문\",1,2\nb,본문,1,2\n");
+
+        assertThat(rows).extracting(Row::line).containsExactly(2L, 5L);
+    }
+
+    @Test
+    void csvHeaderWithBomAndOptionalColumns() throws IOException {
+        List<Row> rows = read(BoardImportFormat.CSV,
+                "\uFEFFtitle,content,writerId,categoryId,viewCount,createdAt\n"
+                        + "제목,본문,1,2,30,2025-01-02T03:04:05Z\n");
+
+        BoardImportRowDto value = rows.get(0).value();
+        assertThat(value.title()).isEqualTo("제목");
+        assertThat(value.viewCount()).isEqualTo(30L);
+        assertThat(value.createdAt()).isEqualTo(Instant.parse("2025-01-02T03:04:05Z"));
+    }
+
+    @Test
+    void csvRowWithWrongColumnCountIsRejected() throws IOException {
+        List<Row> rows = read(BoardImportFormat.CSV,
+                HEADER + "짧은,행,1\n긴,행,1,2,3\n정상,행,1,2\n");
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).error()).contains("열 개수");
+        assertThat(rows.get(1).error()).contains("열 개수");
+        assertThat(rows.get(2).error()).isNull();
+        assertThat(rows.get(2).value().title()).isEqualTo("정상");
+    }
+
+    @Test
+    void csvBadNumberIsRowError() throws IOException {
+        List<Row> rows = read(BoardImportFormat.CSV, HEADER + "제목,본문,abc,2\n");
+
+        assertThat(rows.get(0).value()).isNull();
+        assertThat(rows.get(0).error()).isEqualTo("CSV 값 형식 오류");
+    }
+
+    @Test
+    void csvBlankTrailingLinesAreIgnored() throws IOException {
+        assertThat(read(BoardImportFormat.CSV, HEADER + "제목,본문,1,2\r\n\r\n\n")).hasSize(1);
+        assertThat(read(BoardImportFormat.CSV, HEADER + "제목,본문,1,2")).hasSize(1);
+        assertThat(read(BoardImportFormat.CSV, "")).isEmpty();
+    }
+
+    @Test
+    void ndjsonSkipsBlankLinesAndReportsMalformedLine() throws IOException {
+        List<Row> rows = read(BoardImportFormat.NDJSON, """
+                \uFEFF{"title":"첫째","content":"본문","writerId":1,"categoryId":2}
+
+                {"title":"둘째", "content":
+                {"title":"셋째","content":"본문","writerId":1,"categoryId":2,"unknown":true}
+                """);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).value().title()).isEqualTo("첫째");
+        assertThat(rows.get(1).line()).isEqualTo(3L);
+        assertThat(rows.get(1).error()).isEqualTo("JSON 형식 오류");
+        assertThat(rows.get(2).line()).isEqualTo(4L);
+        assertThat(rows.get(2).value().title()).isEqualTo("셋째");
+    }
+
+    private static List<Row> read(BoardImportFormat format, String body) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        try (BoardImportReader reader = new BoardImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, OBJECT_MAPPER)) {
+            Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.boardback.service.board.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.boardback.common.enums.user.ErrorCode;
+import org.example.boardback.dto.board.response.BoardResponseDto;
+import org.example.boardback.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BoardDetailCache 검증
+ * - 요청 병합(single-flight): Redis 는 기본 miss 로 모킹, loader 호출 수 = 실행된 SQL 수
+ * - 조회수 배치 반영분이 L1 값과 L2(views 필드) 값에 더해지는지, 반영 중에 다시 채워진 L1 은 제거되는지
+ * - L2 채우기가 DB 조회 전에 읽은 gen 조건으로 실행되고, 거부되면 L1 에도 넣지 않는지
+ */
+class BoardDetailCacheTest {
+
+    private static final int CONCURRENCY = 1_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private BoardDetailCache cache;
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private ExecutorService executor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenReturn(Arrays.asList(null, null, null));
+
+        cache = new BoardDetailCache(
+                redisTemplate,
+                OBJECT_MAPPER,
+                new SimpleMeterRegistry(),
+                mock(RedisMessageListenerContainer.class),
+                10_000,
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(5),
+                1.0
+        );
+        executor = Executors.newFixedThreadPool(CONCURRENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        cache.shutdown();
+    }
+
+    @Test
+    void concurrentMissesRunSingleQuery() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        Function<Long, BoardResponseDto> loader = id -> {
+            queries.incrementAndGet();
+            sleep(200);     // SQL 실행 시간
+            return board(id);
+        };
+
+        List<Future<BoardResponseDto>> results = runConcurrently(() -> cache.get(1L, loader));
+
+        for (Future<BoardResponseDto> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS).id()).isEqualTo(1L);
+        }
+        assertThat(queries.get()).isEqualTo(1);
+
+        // 이후 요청은 L1 hit
+        cache.get(1L, loader);
+        assertThat(queries.get()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentMissesShareLoaderFailure() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        Function<Long, BoardResponseDto> loader = id -> {
+            queries.incrementAndGet();
+            sleep(200);
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        };
+
+        List<Future<BoardResponseDto>> results = runConcurrently(() -> cache.get(2L, loader));
+
+        for (Future<BoardResponseDto> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertThat(e.getCause()).isInstanceOf(BusinessException.class);
+        }
+        assertThat(queries.get()).isEqualTo(1);
+    }
+
+    @Test
+    void flushedViewCountsAreAddedToL1() {
+        cache.get(3L, BoardDetailCacheTest::board);
+
+        BoardDetailCache.ViewFlushSnapshot snapshot = cache.beforeViewFlush(List.of(3L));
+        cache.applyViewCounts(Map.of(3L, 7L), snapshot);
+
+        assertThat(cache.get(3L, id -> { throw new AssertionError("L1 hit 이어야 함"); }).viewCount())
+                .isEqualTo(7L);
+    }
+
+    @Test
+    void l1ReloadedDuringFlushIsEvictedInsteadOfIncremented() {
+        cache.get(8L, BoardDetailCacheTest::board);
+        BoardDetailCache.ViewFlushSnapshot snapshot = cache.beforeViewFlush(List.of(8L));
+
+        // DB 반영 커밋 이후 ~ applyViewCounts 사이에 무효화 + 재조회 → 이미 +7 이 포함된 값
+        cache.evict(8L);
+        cache.get(8L, id -> board(id).withViewCount(7L));
+
+        cache.applyViewCounts(Map.of(8L, 7L), snapshot);
+
+        AtomicInteger queries = new AtomicInteger();
+        BoardResponseDto result = cache.get(8L, id -> {
+            queries.incrementAndGet();
+            return board(id).withViewCount(7L);
+        });
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(result.viewCount()).isEqualTo(7L);
+    }
+
+    @Test
+    void l2ViewsFieldIsOverlaidOnCachedBody() throws Exception {
+        BoardDetailCache.CachedBoard stored = new BoardDetailCache.CachedBoard(
+                board(4L).withViewCount(10L), System.currentTimeMillis() + 60_000, 0L);
+        when(hashOperations.multiGet(eq("board:detail:4"), anyCollection()))
+                .thenReturn(Arrays.asList(OBJECT_MAPPER.writeValueAsString(stored), "5", "1"));
+
+        BoardResponseDto result = cache.get(4L, id -> { throw new AssertionError("L2 hit 이어야 함"); });
+
+        assertThat(result.viewCount()).isEqualTo(15L);
+    }
+
+    @Test
+    void l2WriteIsConditionalOnGenerationReadBeforeLoad() {
+        // 다른 노드의 무효화로 본문 없이 gen=3 만 남은 상태
+        when(hashOperations.multiGet(eq("board:detail:5"), anyCollection()))
+                .thenReturn(Arrays.asList(null, null, "3"));
+
+        cache.get(5L, BoardDetailCacheTest::board);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("board:detail:5")),
+                anyString(), eq("300000"), eq("3"));
+    }
+
+    @Test
+    void refusedL2WriteIsNotKeptInL1() {
+        // DB 조회 중 다른 노드가 무효화 → gen 이 달라져 채우기 거부
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+        AtomicInteger queries = new AtomicInteger();
+        Function<Long, BoardResponseDto> loader = id -> {
+            queries.incrementAndGet();
+            return board(id);
+        };
+
+        assertThat(cache.get(6L, loader).id()).isEqualTo(6L);
+        cache.get(6L, loader);
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    private List<Future<BoardResponseDto>> runConcurrently(java.util.concurrent.Callable<BoardResponseDto> task)
+            throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BoardResponseDto>> results = new ArrayList<>(CONCURRENCY);
+
+        for (int i = 0; i < CONCURRENCY; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return task.call();
+            }));
+        }
+
+        ready.await();
+        start.countDown();
+        return results;
+    }
+
+    private static BoardResponseDto board(Long id) {
+        Instant now = Instant.now();
+        return BoardResponseDto.of(id, "title", "content", "<p>content</p>", 0L, false,
+                1L, "writer", 1L, "category", 0, 0, now, now, 0L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.boardback.service.board.content;
+
+import org.example.boardback.entity.board.Board;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardContentRenderer 검증
+ * - 사용자 입력이 태그 / 속성으로 해석되지 않는지 (이스케이프)
+ * - 미리보기 길이가 excerpt 컬럼(VARCHAR(100)) 을 넘지 않는지
+ */
+class BoardContentRendererTest {
+
+    @Test
+    void htmlEscapesMarkupAndBuildsParagraphs() {
+        String html = BoardContentRenderer.html("<script>alert(1)</script>\r\n둘째 줄\n\n\n새 문단");
+
+        assertThat(html).isEqualTo(
+                "<p>&lt;script&gt;alert(1)&lt;/script&gt;<br>둘째 줄</p><p>새 문단</p>");
+    }
+
+    @Test
+    void htmlLinksUrlsWithoutBreakingOutOfAttribute() {
+        String html = BoardContentRenderer.html("참고 https://example.com/a?x=1&y=\"onmouseover=alert(1)");
+
+        assertThat(html).isEqualTo("<p>참고 <a href=\"https://example.com/a?x=1&amp;y=\" target=\"_blank\""
+                + " rel=\"nofollow noopener noreferrer\">https://example.com/a?x=1&amp;y=</a>"
+                + "&quot;onmouseover=alert(1)</p>");
+    }
+
+    @Test
+    void excerptCollapsesWhitespaceAndFitsColumn() {
+        assertThat(BoardContentRenderer.excerpt("  첫 줄\n\n  둘째   줄 ")).isEqualTo("첫 줄 둘째 줄");
+
+        String excerpt = BoardContentRenderer.excerpt("가".repeat(98) + "😀😀😀");
+        assertThat(excerpt.codePointCount(0, excerpt.length())).isEqualTo(Board.EXCERPT_LENGTH);
+        assertThat(excerpt).endsWith("😀…");
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.boardback.service.board.impl;
+
+import org.example.boardback.dto.board.request.BoardCreateRequestDto;
+import org.example.boardback.dto.board.request.BoardUpdateRequestDto;
+import org.example.boardback.dto.board.response.BoardResponseDto;
+import org.example.boardback.entity.board.Board;
+import org.example.boardback.entity.board.BoardContent;
+import org.example.boardback.repository.board.BoardContentRepository;
+import org.example.boardback.repository.board.BoardRepository;
+import org.example.boardback.security.user.UserPrincipal;
+import org.example.boardback.service.board.content.BoardContentRenderer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 본문 분리(board_contents) 검증 (H2)
+ * - boards 테이블에는 본문 컬럼이 없고 미리보기(excerpt)만 저장
+ * - 작성 / 수정 / 상세 조회가 board_contents 를 통해 본문과 렌더링 HTML 을 저장 / 조회
+ * - 본문만 바뀐 수정도 게시글 버전이 올라가는지
+ */
+class BoardContentStorageTest extends BoardServiceSliceTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardContentRepository boardContentRepository;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal(writer.getId()), null, List.of()));
+
+        // 캐시는 항상 miss → loader(board_contents 조회) 실행
+        when(boardDetailCache.get(anyLong(), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, BoardResponseDto>>getArgument(1).apply(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void boardsTableHasNoContentColumn() {
+        Number columns = (Number) em.getEntityManager().createNativeQuery("""
+                SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS
+                WHERE UPPER(TABLE_NAME) = 'BOARDS' AND UPPER(COLUMN_NAME) = 'CONTENT'
+                """).getSingleResult();
+
+        assertThat(columns.longValue()).isZero();
+    }
+
+    @Test
+    void createStoresBodyInBoardContents() {
+        String content = "첫 문단\n\n둘째 문단 https://example.com";
+
+        Long boardId = boardService.createBoard(
+                new BoardCreateRequestDto("제목", content, category.getId(), null)).getData().id();
+        em.flush();
+        em.clear();
+
+        BoardContent body = boardContentRepository.findById(boardId).orElseThrow();
+        assertThat(body.getContent()).isEqualTo(content);
+        assertThat(body.getRenderedHtml()).isEqualTo(BoardContentRenderer.html(content));
+        assertThat(boardRepository.findById(boardId).orElseThrow().getExcerpt())
+                .isEqualTo(BoardContentRenderer.excerpt(content));
+    }
+
+    @Test
+    void updateChangesBodyAndBumpsVersionEvenIfBoardRowIsUnchanged() {
+        String prefix = "가".repeat(Board.EXCERPT_LENGTH);
+        Long boardId = boardService.createBoard(
+                new BoardCreateRequestDto("제목", prefix + " 처음 본문", category.getId(), null)).getData().id();
+        em.flush();
+        em.clear();
+
+        // 미리보기 범위 밖만 바뀜 → boards 행은 변경 없음
+        BoardResponseDto updated = boardService.updateBoard(boardId, new BoardUpdateRequestDto(
+                "제목", prefix + " 바뀐 본문", category.getId(), null, null, null, 0L)).getData();
+        em.flush();
+        em.clear();
+
+        assertThat(updated.content()).isEqualTo(prefix + " 바뀐 본문");
+        assertThat(updated.version()).isEqualTo(1L);
+        assertThat(boardContentRepository.findById(boardId).orElseThrow().getContent())
+                .isEqualTo(prefix + " 바뀐 본문");
+        assertThat(boardRepository.findById(boardId).orElseThrow().getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void readLoadsBodyFromBoardContents() {
+        Long boardId = boardService.createBoard(
+                new BoardCreateRequestDto("제목", "본문 내용", category.getId(), null)).getData().id();
+        em.flush();
+        em.clear();
+
+        BoardResponseDto board = boardService.getBoard(String.valueOf(boardId)).getData();
+
+        assertThat(board.title()).isEqualTo("제목");
+        assertThat(board.content()).isEqualTo("본문 내용");
+        assertThat(board.contentHtml()).isEqualTo(BoardContentRenderer.html("본문 내용"));
+    }
+
+    @Test
+    void readRendersHtmlForBodiesNotYetBackfilled() {
+        Board board = em.persist(Board.builder()
+                .title("기존 글")
+                .excerpt("기존 본문")
+                .writer(writer)
+                .category(category)
+                .build());
+        em.persist(new BoardContent(board, "기존 본문", null));
+        em.flush();
+        em.clear();
+
+        BoardResponseDto result = boardService.getBoard(String.valueOf(board.getId())).getData();
+
+        assertThat(result.content()).isEqualTo("기존 본문");
+        assertThat(result.contentHtml()).isEqualTo(BoardContentRenderer.html("기존 본문"));
+    }
+
+    private static UserPrincipal principal(Long userId) {
+        return UserPrincipal.builder()
+                .id(userId)
+                .username("writer")
+                .password("pw")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.boardback.service.board.impl;
+
+import org.example.boardback.dto.board.request.PageBoardRequestDto;
+import org.example.boardback.dto.board.response.BoardSummaryDto;
+import org.example.boardback.dto.board.response.PageBoardResponseDto;
+import org.example.boardback.entity.board.Board;
+import org.example.boardback.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키셋(커서) 페이징 검증 (H2)
+ * - 페이지를 끝까지 넘겨도 created_at desc, id desc 순서로 빠짐 / 중복 없이 이어지는지
+ * - created_at 이 같은 글이 페이지 경계에 걸쳐도 id 로 이어지는지
+ * - 마지막 페이지(남은 글 수 = size 인 경우 포함)에는 nextCursor 가 없는지
+ * - 커서 모드의 sort: 생략 / 고정 정렬만 허용, OFFSET 모드는 sort 생략 시 기본 정렬
+ */
+class BoardCursorPagingTest extends BoardServiceSliceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final List<Board> boards = new ArrayList<>();
+
+    @Test
+    void pagesFollowCreatedAtThenIdWithTiesAcrossPageBoundaries() {
+        // 분 단위: 0, 1, 1, 1, 1, 1, 2 → 같은 시각 5건이 페이지 경계(size 2)에 걸침
+        int[] minutes = {0, 1, 1, 1, 1, 1, 2};
+        for (int minute : minutes) {
+            board(BASE.plusMinutes(minute));
+        }
+        em.flush();
+        em.clear();
+
+        List<Long> expected = boards.stream()
+                .sorted(Comparator.comparing(Board::getCreatedAt).thenComparing(Board::getId).reversed())
+                .map(Board::getId)
+                .toList();
+
+        List<Long> collected = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            PageBoardResponseDto page = page(cursor, 2, null);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            page.items().stream().map(BoardSummaryDto::id).forEach(collected::add);
+            cursor = page.nextCursor();
+            pages++;
+        }
+
+        assertThat(collected).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void lastPageHasNoCursorEvenWhenItIsExactlyFull() {
+        for (int i = 0; i < 4; i++) {
+            board(BASE.plusMinutes(i));
+        }
+        em.flush();
+        em.clear();
+
+        PageBoardResponseDto first = page("", 2, null);
+        assertThat(first.items()).hasSize(2);
+        assertThat(first.nextCursor()).isNotNull();
+
+        PageBoardResponseDto last = page(first.nextCursor(), 2, null);
+        assertThat(last.items()).extracting(BoardSummaryDto::id)
+                .containsExactly(boards.get(1).getId(), boards.get(0).getId());
+        assertThat(last.nextCursor()).isNull();
+        assertThat(last.totalElements()).isNull();
+    }
+
+    @Test
+    void cursorModeAcceptsOnlyTheFixedOrder() {
+        board(BASE);
+        em.flush();
+        em.clear();
+
+        assertThat(page("", 10, "createdAt,desc").items()).hasSize(1);
+        assertThat(page("", 10, " ").items()).hasSize(1);
+        assertThatThrownBy(() -> page("", 10, "viewCount,desc")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> page("", 10, "createdAt,asc")).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void offsetModeDefaultsToNewestFirstWithoutSort() {
+        board(BASE);
+        board(BASE.plusMinutes(1));
+        em.flush();
+        em.clear();
+
+        PageBoardResponseDto page = boardService.getBoardsByPage(
+                new PageBoardRequestDto(0, 10, null, null)).getData();
+
+        assertThat(page.items()).extracting(BoardSummaryDto::id)
+                .containsExactly(boards.get(1).getId(), boards.get(0).getId());
+        assertThat(page.totalElements()).isEqualTo(2L);
+    }
+
+    private PageBoardResponseDto page(String cursor, int size, String sort) {
+        return boardService.getBoardsByPage(new PageBoardRequestDto(0, size, sort, cursor)).getData();
+    }
+
+    /** created_at 은 감사(auditing) 값 대신 지정한 시각으로 덮어씀 (같은 시각 재현) */
+    private void board(LocalDateTime createdAt) {
+        Board board = em.persist(Board.builder()
+                .title("제목 " + boards.size())
+                .excerpt("본문")
+                .writer(writer)
+                .category(category)
+                .build());
+        em.flush();
+        em.getEntityManager().createNativeQuery("UPDATE boards SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", board.getId())
+                .executeUpdate();
+        em.getEntityManager().refresh(board);
+        boards.add(board);
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.boardback.service.board.impl;
+
+import org.example.boardback.common.enums.user.AuthProvider;
+import org.example.boardback.config.JpaAuditingConfig;
+import org.example.boardback.entity.board.BoardCategory;
+import org.example.boardback.entity.user.User;
+import org.example.boardback.repository.board.BoardSearchSourceRepository;
+import org.example.boardback.service.board.BoardService;
+import org.example.boardback.service.board.cache.BoardDetailCache;
+import org.example.boardback.service.board.cache.PinnedBoardSnapshot;
+import org.example.boardback.service.board.search.BoardSearchEngine;
+import org.example.boardback.service.board.trending.BoardTrendingRanker;
+import org.example.boardback.service.board.view.BoardViewCountBuffer;
+import org.example.boardback.service.board.view.BoardViewDeduplicator;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * BoardServiceImpl 슬라이스 테스트 공통 설정 (H2)
+ * - JPA 리포지토리 + BoardServiceImpl 만 올리고, Redis / 검색 등 외부 의존 빈은 mock
+ * - 작성자 / 카테고리를 테스트마다 미리 저장
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, BoardServiceImpl.class})
+abstract class BoardServiceSliceTest {
+
+    @Autowired
+    protected BoardService boardService;
+
+    @Autowired
+    protected TestEntityManager em;
+
+    @MockitoBean protected BoardViewCountBuffer viewCountBuffer;
+    @MockitoBean protected BoardViewDeduplicator viewDeduplicator;
+    @MockitoBean protected BoardDetailCache boardDetailCache;
+    @MockitoBean protected BoardTrendingRanker boardTrendingRanker;
+    @MockitoBean protected PinnedBoardSnapshot pinnedBoardSnapshot;
+    @MockitoBean protected BoardSearchEngine boardSearchEngine;
+    @MockitoBean protected BoardSearchSourceRepository boardSearchSourceRepository;
+
+    protected User writer;
+    protected BoardCategory category;
+
+    // 하위 클래스의 @BeforeEach 보다 먼저 실행 (이름이 겹치면 재정의되므로 setUp 과 다른 이름 사용)
+    @BeforeEach
+    void persistWriterAndCategory() {
+        writer = em.persist(User.builder()
+                .username("writer")
+                .password("pw")
+                .email("writer@example.com")
+                .nickname("작성자")
+                .provider(AuthProvider.LOCAL)
+                .build());
+        category = em.persist(BoardCategory.builder().name("자유").build());
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.boardback.service.board.like;
+
+import org.example.boardback.exception.BusinessException;
+import org.example.boardback.repository.board.like.BoardLikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BoardLikeStore cold start 적재 검증 (Redis / DB 는 mock)
+ * - 게시글 반영 잠금을 잡은 뒤에 board_likes 를 조회하고, 적재 후 잠금을 푸는지
+ * - 반영이 진행 중이면 끝날 때까지 기다렸다가 적재하는지, 대기 시간을 넘기면 적재하지 않는지
+ */
+class BoardLikeStoreTest {
+
+    private static final long BOARD_ID = 7L;
+    private static final String LOCK_KEY = "{board-like:7}:lock";
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private BoardLikeRepository boardLikeRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        boardLikeRepository = mock(BoardLikeRepository.class);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(mock(SetOperations.class));
+        when(redisTemplate.hasKey(any())).thenReturn(false);
+        when(boardLikeRepository.findUserIdsByBoardId(BOARD_ID)).thenReturn(List.of(1L, 2L));
+    }
+
+    @Test
+    void loadWaitsForFlushLockAndReadsDatabaseInsideIt() {
+        // 첫 시도: 다른 노드가 반영 중 → 두 번째 시도에 잠금 획득
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).thenReturn(false, true);
+
+        store(Duration.ofSeconds(2)).count(BOARD_ID);
+
+        InOrder order = inOrder(valueOperations, boardLikeRepository, redisTemplate);
+        order.verify(valueOperations, times(2)).setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class));
+        order.verify(boardLikeRepository).findUserIdsByBoardId(BOARD_ID);
+        order.verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        order.verify(redisTemplate).delete(LOCK_KEY);
+    }
+
+    @Test
+    void loadGivesUpWhenFlushLockIsNotReleased() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> store(Duration.ZERO).count(BOARD_ID)).isInstanceOf(BusinessException.class);
+
+        verify(boardLikeRepository, never()).findUserIdsByBoardId(anyLong());
+        verify(redisTemplate, never()).delete(LOCK_KEY);
+    }
+
+    @Test
+    void lockIsReleasedWhenDatabaseReadFails() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).thenReturn(true);
+        when(boardLikeRepository.findUserIdsByBoardId(BOARD_ID)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> store(Duration.ofSeconds(2)).count(BOARD_ID))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(redisTemplate).delete(LOCK_KEY);
+    }
+
+    private BoardLikeStore store(Duration loadLockWait) {
+        return new BoardLikeStore(redisTemplate, boardLikeRepository,
+                Duration.ofDays(7), Duration.ofSeconds(10), loadLockWait);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.boardback.service.board.search;
+
+import org.example.boardback.service.board.search.BoardInvertedIndex.Field;
+import org.example.boardback.service.board.search.BoardInvertedIndex.Hits;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardInvertedIndex 검증
+ * - 질의의 모든 토큰을 포함하는 문서만 (AND), ALL 은 토큰마다 제목 또는 본문 중 한 곳 (OR)
+ * - 수정 / 삭제 시 삭제 표시(tombstone) → 검색 제외, deletedRatio 반영
+ * - 재색인 중 들어온 변경이 새 색인에 다시 적용되는지
+ */
+class BoardInvertedIndexTest {
+
+    @Test
+    void notReadyUntilFirstRebuildCommits() {
+        BoardInvertedIndex index = new BoardInvertedIndex();
+        BoardInvertedIndex.Builder builder = index.beginRebuild();
+        assertThat(index.isReady()).isFalse();
+
+        builder.commit();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void returnsOnlyDocumentsContainingAllTerms() {
+        BoardInvertedIndex index = build(
+                new Doc(1L, "스프링 부트 입문", ""),
+                new Doc(2L, "스프링 시큐리티", ""),
+                new Doc(3L, "부트캠프 후기", "")
+        );
+
+        Hits hits = index.search("스프링 부트", Field.ALL, 10);
+
+        assertThat(hits.boardIds()).containsExactly(1L);
+        assertThat(hits.totalCount()).isEqualTo(1);
+        assertThat(index.search("스프링 없는말", Field.ALL, 10).boardIds()).isEmpty();
+        assertThat(index.search("!!", Field.ALL, 10).boardIds()).isEmpty();
+    }
+
+    @Test
+    void fieldRestrictsWhereEachTermMustAppear() {
+        BoardInvertedIndex index = build(
+                new Doc(1L, "자바", "스프링"),
+                new Doc(2L, "스프링", "자바"),
+                new Doc(3L, "스프링", "부트")
+        );
+
+        assertThat(index.search("스프링", Field.TITLE, 10).boardIds()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("스프링", Field.CONTENT, 10).boardIds()).containsExactly(1L);
+
+        // ALL: 제목 매칭이 TITLE_BOOST 로 앞에 옴 (동점이면 나중에 색인된 문서 우선)
+        assertThat(index.search("스프링", Field.ALL, 10).boardIds()).containsExactly(3L, 2L, 1L);
+
+        // ALL: 토큰마다 제목 / 본문 중 어디에 있어도 됨, TITLE: 모든 토큰이 제목에 있어야 함
+        assertThat(index.search("스프링 부트", Field.ALL, 10).boardIds()).containsExactly(3L);
+        assertThat(index.search("스프링 부트", Field.TITLE, 10).boardIds()).isEmpty();
+    }
+
+    @Test
+    void intersectsLongPostingListsAndKeepsTopK() {
+        List<Doc> docs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            docs.add(new Doc(i + 1L, i % 7 == 0 ? "공통 희귀" : "공통", ""));
+        }
+        BoardInvertedIndex index = build(docs.toArray(Doc[]::new));
+
+        Hits hits = index.search("희귀 공통", Field.ALL, 10);
+
+        // 점수가 모두 같음 → 나중에 색인된 문서부터
+        List<Long> expected = new ArrayList<>();
+        for (int i = 497; expected.size() < 10; i -= 7) {
+            expected.add(i + 1L);
+        }
+        assertThat(hits.totalCount()).isEqualTo(72);
+        assertThat(hits.boardIds()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void updatesAndRemovesLeaveTombstones() {
+        BoardInvertedIndex index = build(
+                new Doc(1L, "사과 주스", ""),
+                new Doc(2L, "바나나 우유", ""),
+                new Doc(3L, "사과 파이", "")
+        );
+
+        index.remove(1L);
+        assertThat(index.search("사과", Field.ALL, 10).boardIds()).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.deletedRatio()).isEqualTo(1.0 / 3);
+
+        index.upsert(2L, "딸기 우유", "");
+        assertThat(index.search("바나나", Field.ALL, 10).boardIds()).isEmpty();
+        assertThat(index.search("딸기 우유", Field.ALL, 10).boardIds()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.deletedRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void changesDuringRebuildAreReplayedOnNewIndex() {
+        BoardInvertedIndex index = build(new Doc(1L, "사과", ""));
+
+        BoardInvertedIndex.Builder builder = index.beginRebuild();
+        builder.add(1L, "사과", "");
+        builder.add(2L, "바나나", "");
+
+        // 재색인 도중 변경: 기존 색인에 즉시 반영 + 새 색인에 재적용
+        index.upsert(3L, "체리", "");
+        index.remove(1L);
+        assertThat(index.search("체리", Field.ALL, 10).boardIds()).containsExactly(3L);
+
+        builder.commit();
+
+        assertThat(index.search("체리", Field.ALL, 10).boardIds()).containsExactly(3L);
+        assertThat(index.search("사과", Field.ALL, 10).boardIds()).isEmpty();
+        assertThat(index.search("바나나", Field.ALL, 10).boardIds()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void abortedRebuildKeepsExistingIndex() {
+        BoardInvertedIndex index = build(new Doc(1L, "사과", ""));
+
+        index.beginRebuild().add(2L, "바나나", "");
+        index.abortRebuild();
+        index.upsert(3L, "체리", "");
+
+        assertThat(index.search("사과", Field.ALL, 10).boardIds()).containsExactly(1L);
+        assertThat(index.search("바나나", Field.ALL, 10).boardIds()).isEmpty();
+        assertThat(index.search("체리", Field.ALL, 10).boardIds()).containsExactly(3L);
+    }
+
+    private record Doc(Long id, String title, String content) {}
+
+    private static BoardInvertedIndex build(Doc... docs) {
+        BoardInvertedIndex index = new BoardInvertedIndex();
+        BoardInvertedIndex.Builder builder = index.beginRebuild();
+        for (Doc doc : docs) {
+            builder.add(doc.id(), doc.title(), doc.content());
+        }
+        builder.commit();
+        return index;
+    }
+}
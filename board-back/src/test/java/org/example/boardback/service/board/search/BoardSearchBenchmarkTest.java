@@ -0,0 +1,234 @@
+package org.example.boardback.service.board.search;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LIKE '%q%' 스캔 vs FULLTEXT(ngram) MATCH ... AGAINST 응답 시간 비교 (100k / 1M 행)
+ *
+ * - 실제 MySQL 이 필요하므로 bench.mysql.url 이 지정된 경우에만 실행
+ *   ./gradlew test --tests '*BoardSearchBenchmarkTest' \
+ *       -Dbench.mysql.url=jdbc:mysql://localhost:3306/board_bench -Dbench.mysql.user=root -Dbench.mysql.password=...
+ * - 운영 테이블을 건드리지 않도록 bench_boards / bench_board_contents 테이블을 만들어 사용하고 종료 시 삭제
+ *   : 운영 스키마와 같이 제목(boards) / 본문(board_contents)을 분리, FULLTEXT 인덱스도 테이블별
+ *   : 검색 조건은 BoardFulltextSearchRepository(ALL) 와 동일 - 모든 단어가 제목에 있거나 본문에 있는 글
+ * - 질의마다 두 방식의 결과 id 가 같은지 먼저 확인한 뒤 시간 비교
+ *   : 단어는 모두 3글자 + 공백 구분 → LIKE '%단어%' 와 ngram 구문 검색('+단어')이 같은 행을 찾음
+ * - 가장 큰 행 수에서 FULLTEXT 가 bench.min-speedup 배(기본 5) 이상 빨라야 통과
+ */
+@EnabledIfSystemProperty(named = "bench.mysql.url", matches = ".+")
+class BoardSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardSearchBenchmarkTest.class);
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하거너더러머버서어저처커터퍼허";
+    private static final int VOCABULARY_SIZE = 2_000;
+    private static final int[] ROWS = {100_000, 1_000_000};
+    private static final int RUNS = 5;
+
+    // 본문 60 단어 기준 단어 하나는 약 3% 의 글 본문에 등장 → 두 단어 AND 는 약 0.1%
+    private static final int[][] QUERIES = {{0}, {1, 2}, {3, 4, 5}};
+
+    private static final List<String> VOCABULARY = vocabulary();
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.mysql.url") + "?rewriteBatchedStatements=true",
+                System.getProperty("bench.mysql.user", "root"),
+                System.getProperty("bench.mysql.password", "")
+        );
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_board_contents");
+            statement.execute("DROP TABLE IF EXISTS bench_boards");
+            statement.execute("""
+                    CREATE TABLE bench_boards (
+                        id BIGINT PRIMARY KEY,
+                        title VARCHAR(150) NOT NULL,
+                        FULLTEXT INDEX ft_bench_boards_title (title) WITH PARSER ngram
+                    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+                    """);
+            statement.execute("""
+                    CREATE TABLE bench_board_contents (
+                        board_id BIGINT PRIMARY KEY,
+                        content LONGTEXT NOT NULL,
+                        FULLTEXT INDEX ft_bench_board_contents_content (content) WITH PARSER ngram,
+                        FOREIGN KEY (board_id) REFERENCES bench_boards(id)
+                    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+                    """);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection == null) return;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_board_contents");
+            statement.execute("DROP TABLE IF EXISTS bench_boards");
+        }
+        connection.close();
+    }
+
+    @Test
+    void compareLikeAndFulltext() throws SQLException {
+        double minSpeedup = Double.parseDouble(System.getProperty("bench.min-speedup", "5"));
+        Random random = new Random(42);
+
+        for (int rows : ROWS) {
+            seedUpTo(rows, random);
+
+            for (int[] query : QUERIES) {
+                List<String> words = Arrays.stream(query).mapToObj(VOCABULARY::get).toList();
+                String like = likeSql(words);
+                String fulltext = fulltextSql(words);
+
+                List<Long> likeIds = ids(like);
+                assertThat(ids(fulltext)).as("결과 id 불일치 (words=%s)", words).isEqualTo(likeIds);
+
+                double likeMillis = medianMillis(like);
+                double fulltextMillis = medianMillis(fulltext);
+                log.info("[BoardSearchBenchmark] rows={} words={} hits={} LIKE={}ms FULLTEXT={}ms",
+                        rows, words, likeIds.size(),
+                        String.format("%.1f", likeMillis), String.format("%.1f", fulltextMillis));
+
+                if (rows == ROWS[ROWS.length - 1]) {
+                    assertThat(likeMillis / fulltextMillis)
+                            .as("FULLTEXT 속도 향상 배수 (words=%s)", words)
+                            .isGreaterThanOrEqualTo(minSpeedup);
+                }
+            }
+        }
+    }
+
+    /** 모든 단어가 제목에 있거나, 모든 단어가 본문에 있는 글 (테이블별 MATCH 의 +단어 조건과 동일) */
+    private static String likeSql(List<String> words) {
+        List<String> inTitle = new ArrayList<>();
+        List<String> inContent = new ArrayList<>();
+        for (String word : words) {
+            inTitle.add("b.title LIKE '%" + word + "%'");
+            inContent.add("bc.content LIKE '%" + word + "%'");
+        }
+        return "SELECT b.id FROM bench_boards b JOIN bench_board_contents bc ON bc.board_id = b.id"
+                + " WHERE (" + String.join(" AND ", inTitle) + ") OR (" + String.join(" AND ", inContent) + ")"
+                + " ORDER BY b.id DESC";
+    }
+
+    private static String fulltextSql(List<String> words) {
+        String booleanQuery = String.join(" ", words.stream().map(word -> "+" + word).toList());
+        return "SELECT h.id FROM ("
+                + "SELECT b.id FROM bench_boards b WHERE MATCH(b.title) AGAINST ('" + booleanQuery + "' IN BOOLEAN MODE)"
+                + " UNION "
+                + "SELECT bc.board_id FROM bench_board_contents bc WHERE MATCH(bc.content) AGAINST ('" + booleanQuery + "' IN BOOLEAN MODE)"
+                + ") h ORDER BY h.id DESC";
+    }
+
+    private static void seedUpTo(int rows, Random random) throws SQLException {
+        long current;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM bench_boards")) {
+            rs.next();
+            current = rs.getLong(1);
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement boards = connection.prepareStatement(
+                     "INSERT INTO bench_boards (id, title) VALUES (?, ?)");
+             PreparedStatement contents = connection.prepareStatement(
+                     "INSERT INTO bench_board_contents (board_id, content) VALUES (?, ?)")) {
+            for (long i = current; i < rows; i++) {
+                boards.setLong(1, i + 1);
+                boards.setString(2, sentence(random, 5));
+                boards.addBatch();
+                contents.setLong(1, i + 1);
+                contents.setString(2, sentence(random, 60));
+                contents.addBatch();
+
+                if (i % 5_000 == 4_999) {
+                    boards.executeBatch();
+                    contents.executeBatch();
+                    connection.commit();
+                }
+            }
+            boards.executeBatch();
+            contents.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static List<Long> ids(String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private static double medianMillis(String sql) throws SQLException {
+        double[] elapsed = new double[RUNS];
+
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(sql)) {
+                while (rs.next()) {
+                    rs.getLong(1);
+                }
+            }
+            elapsed[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+
+        Arrays.sort(elapsed);
+        return elapsed[RUNS / 2];
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(VOCABULARY.get(random.nextInt(VOCABULARY.size())));
+        }
+        return sb.toString();
+    }
+
+    /** 3글자 단어 VOCABULARY_SIZE 개 (고정 시드 → 실행마다 같은 데이터) */
+    private static List<String> vocabulary() {
+        Random random = new Random(7);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < VOCABULARY_SIZE) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 3; i++) {
+                sb.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            words.add(sb.toString());
+        }
+        return List.copyOf(words);
+    }
+}
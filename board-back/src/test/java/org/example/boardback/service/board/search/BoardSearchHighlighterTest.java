@@ -0,0 +1,40 @@
+package org.example.boardback.service.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardSearchHighlighterTest {
+
+    @Test
+    void titleMarksEveryWordCaseInsensitiveAndEscapesMarkup() {
+        assertThat(BoardSearchHighlighter.highlightTitle("<b>Spring</b> 부트와 spring", "spring 부트"))
+                .isEqualTo("&lt;b&gt;<mark>Spring</mark>&lt;/b&gt; <mark>부트</mark>와 <mark>spring</mark>");
+    }
+
+    @Test
+    void longestWordWinsAtSamePosition() {
+        assertThat(BoardSearchHighlighter.highlightTitle("스프링부트", "스프링 스프링부트"))
+                .isEqualTo("<mark>스프링부트</mark>");
+    }
+
+    @Test
+    void noMatchReturnsNull() {
+        assertThat(BoardSearchHighlighter.highlightTitle("자바", "스프링")).isNull();
+        assertThat(BoardSearchHighlighter.highlightContent("자바", "스프링", 40)).isNull();
+    }
+
+    @Test
+    void contentSnippetAroundFirstMatch() {
+        String content = "a".repeat(100) + "검색" + "b".repeat(100);
+
+        assertThat(BoardSearchHighlighter.highlightContent(content, "검색", 40))
+                .isEqualTo("…" + "a".repeat(10) + "<mark>검색</mark>" + "b".repeat(28) + "…");
+    }
+
+    @Test
+    void shortContentHasNoEllipsis() {
+        assertThat(BoardSearchHighlighter.highlightContent("검색 & 정렬", "정렬", 40))
+                .isEqualTo("검색 &amp; <mark>정렬</mark>");
+    }
+}
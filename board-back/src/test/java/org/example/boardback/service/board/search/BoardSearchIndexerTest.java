@@ -0,0 +1,47 @@
+package org.example.boardback.service.board.search;
+
+import org.example.boardback.repository.board.BoardSearchSourceRepository;
+import org.example.boardback.repository.board.BoardSearchSourceRepository.BoardSearchSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재색인 도중 들어온 재색인 요청(대량 가져오기 등)이 버려지지 않고 한 번 더 실행되는지 검증
+ */
+class BoardSearchIndexerTest {
+
+    @Test
+    void rebuildRequestedDuringRebuildRunsOneMorePass() {
+        BoardInvertedIndex index = new BoardInvertedIndex();
+        BoardSearchSourceRepository repository = mock(BoardSearchSourceRepository.class);
+        BoardSearchIndexer indexer = new BoardSearchIndexer(index, repository);
+        ReflectionTestUtils.setField(indexer, "chunkSize", 100);
+
+        AtomicInteger passes = new AtomicInteger();
+        when(repository.findChunkAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            if (invocation.<Long>getArgument(0) > 0) return List.of();
+
+            int pass = passes.incrementAndGet();
+            if (pass == 1) {
+                // 첫 재색인이 행을 읽는 중에 가져오기 완료 → 두 번째 재색인 요청
+                indexer.rebuild();
+                return List.of(new BoardSearchSource(1L, "사과", ""));
+            }
+            return List.of(new BoardSearchSource(1L, "사과", ""), new BoardSearchSource(2L, "바나나", ""));
+        });
+
+        indexer.rebuild();
+
+        assertThat(passes).hasValue(2);
+        assertThat(index.search("바나나", BoardInvertedIndex.Field.ALL, 10).boardIds()).containsExactly(2L);
+    }
+}
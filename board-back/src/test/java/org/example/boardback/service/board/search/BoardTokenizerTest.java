@@ -0,0 +1,40 @@
+package org.example.boardback.service.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardTokenizerTest {
+
+    @Test
+    void splitsWordsIntoBigrams() {
+        assertThat(BoardTokenizer.tokenize("게시판검색")).containsExactly("게시", "시판", "판검", "검색");
+    }
+
+    @Test
+    void singleCharacterWordIsItsOwnToken() {
+        assertThat(BoardTokenizer.tokenize("a 게 시판")).containsExactly("a", "게", "시판");
+    }
+
+    @Test
+    void normalizesWidthAndCaseAndSplitsOnPunctuation() {
+        assertThat(BoardTokenizer.tokenize("ＪＰＡ-Boot!"))
+                .containsExactly("jp", "pa", "bo", "oo", "ot");
+    }
+
+    @Test
+    void emptyInputHasNoTokens() {
+        assertThat(BoardTokenizer.tokenize(null)).isEmpty();
+        assertThat(BoardTokenizer.tokenize("")).isEmpty();
+        assertThat(BoardTokenizer.tokenize(" !? ")).isEmpty();
+    }
+
+    @Test
+    void onlyQueriesWithTwoLetterWordAreIndexable() {
+        assertThat(BoardTokenizer.isIndexable("ab")).isTrue();
+        assertThat(BoardTokenizer.isIndexable("가 나다")).isTrue();
+        assertThat(BoardTokenizer.isIndexable("a b")).isFalse();
+        assertThat(BoardTokenizer.isIndexable("가 나")).isFalse();
+        assertThat(BoardTokenizer.isIndexable(null)).isFalse();
+    }
+}
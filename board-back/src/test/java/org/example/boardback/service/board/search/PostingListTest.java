@@ -0,0 +1,104 @@
+package org.example.boardback.service.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PostingList 검증
+ * - varint 경계값(1 / 2 / 3 / 5바이트)이 그대로 복원되는지
+ * - Cursor.advance 가 skip 목록을 건너뛰어도 선형 탐색과 같은 위치에 멈추는지
+ */
+class PostingListTest {
+
+    @Test
+    void varIntRoundTripsBoundaryValues() {
+        int[] docs = {0, 127, 128, 16_383, 16_384, (1 << 21) + 5, (1 << 28) + 3, Integer.MAX_VALUE - 1};
+        int[] tfs = {0, 1, 127, 128, 300, 70_000, 1 << 21, Integer.MAX_VALUE};
+
+        PostingList list = new PostingList();
+        for (int i = 0; i < docs.length; i++) {
+            list.add(docs[i], tfs[i], tfs[tfs.length - 1 - i]);
+        }
+        list.trim();
+
+        PostingList.Cursor cursor = list.cursor();
+        for (int i = 0; i < docs.length; i++) {
+            assertThat(cursor.next()).isTrue();
+            assertThat(cursor.doc()).isEqualTo(docs[i]);
+            assertThat(cursor.titleTf()).isEqualTo(tfs[i]);
+            assertThat(cursor.contentTf()).isEqualTo(tfs[tfs.length - 1 - i]);
+        }
+        assertThat(cursor.next()).isFalse();
+        assertThat(list.size()).isEqualTo(docs.length);
+    }
+
+    @Test
+    void rejectsNonIncreasingDocNo() {
+        PostingList list = new PostingList();
+        list.add(5, 1, 0);
+
+        assertThatThrownBy(() -> list.add(5, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> list.add(3, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void advanceMatchesLinearScanAcrossSkipBlocks() {
+        // docNo = 3i (i < 1000) → skip 목록 15개
+        PostingList list = new PostingList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(3 * i, 1, i % 5);
+        }
+
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            PostingList.Cursor cursor = list.cursor();
+            int target = 0;
+
+            while (true) {
+                target += random.nextInt(400);
+                boolean found = cursor.advance(target);
+
+                int expected = (target + 2) / 3 * 3;
+                if (expected > 3 * 999) {
+                    assertThat(found).isFalse();
+                    break;
+                }
+                assertThat(found).isTrue();
+                assertThat(cursor.doc()).isEqualTo(expected);
+                assertThat(cursor.contentTf()).isEqualTo((expected / 3) % 5);
+            }
+        }
+    }
+
+    @Test
+    void advanceStopsExactlyAtSkipBoundary() {
+        PostingList list = new PostingList();
+        for (int i = 0; i < 3 * PostingList.SKIP_INTERVAL; i++) {
+            list.add(i, 1, 0);
+        }
+
+        PostingList.Cursor cursor = list.cursor();
+        assertThat(cursor.advance(PostingList.SKIP_INTERVAL - 1)).isTrue();
+        assertThat(cursor.doc()).isEqualTo(PostingList.SKIP_INTERVAL - 1);
+
+        assertThat(cursor.advance(PostingList.SKIP_INTERVAL)).isTrue();
+        assertThat(cursor.doc()).isEqualTo(PostingList.SKIP_INTERVAL);
+
+        // 현재 위치보다 작은 target 은 이동하지 않음
+        assertThat(cursor.advance(1)).isTrue();
+        assertThat(cursor.doc()).isEqualTo(PostingList.SKIP_INTERVAL);
+
+        assertThat(cursor.advance(2 * PostingList.SKIP_INTERVAL + 1)).isTrue();
+        assertThat(cursor.doc()).isEqualTo(2 * PostingList.SKIP_INTERVAL + 1);
+
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.doc()).isEqualTo(2 * PostingList.SKIP_INTERVAL + 2);
+
+        assertThat(cursor.advance(3 * PostingList.SKIP_INTERVAL)).isFalse();
+        assertThat(cursor.advance(0)).isFalse();
+    }
+}
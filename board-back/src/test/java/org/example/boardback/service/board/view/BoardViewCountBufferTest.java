@@ -0,0 +1,110 @@
+package org.example.boardback.service.board.view;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardViewCountBuffer 검증
+ * - drain 과 동시에 들어온 증가분이 유실 / 중복되지 않는지
+ * - 한 주기 동안 증가가 없던 항목만 맵에서 제거되는지
+ */
+class BoardViewCountBufferTest {
+
+    @Test
+    void drainResetsCounts() {
+        BoardViewCountBuffer buffer = new BoardViewCountBuffer();
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+        assertThat(buffer.pending(1L)).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void entryIsRemovedOnlyAfterAnIdleCycle() {
+        BoardViewCountBuffer buffer = new BoardViewCountBuffer();
+        Map<?, ?> counters = (Map<?, ?>) ReflectionTestUtils.getField(buffer, "counters");
+        buffer.increment(1L);
+
+        buffer.drain();
+        assertThat(counters).containsKey(1L);    // 방금 반영된 인기 글은 adder 유지
+
+        buffer.drain();
+        assertThat(counters).isEmpty();          // 한 주기 내내 증가 없음 → 제거
+
+        buffer.increment(1L);
+        assertThat(buffer.drain()).containsExactlyEntriesOf(Map.of(1L, 1L));
+    }
+
+    @Test
+    void restoredDeltasAreDrainedAgain() {
+        BoardViewCountBuffer buffer = new BoardViewCountBuffer();
+        buffer.increment(1L);
+
+        buffer.restore(buffer.drain());
+        buffer.increment(1L);
+
+        assertThat(buffer.pending(1L)).isEqualTo(2L);
+        assertThat(buffer.drain()).containsExactlyEntriesOf(Map.of(1L, 2L));
+    }
+
+    @Test
+    void incrementsDuringDrainAreNotLost() throws Exception {
+        BoardViewCountBuffer buffer = new BoardViewCountBuffer();
+        int threads = 8;
+        int perThread = 20_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] writers = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                writers[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        buffer.increment((long) (i % 4));
+                    }
+                    return null;
+                });
+            }
+
+            long drained = 0;
+            start.countDown();
+            while (!allDone(writers)) {
+                drained += sum(buffer.drain());
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            drained += sum(buffer.drain());
+
+            assertThat(drained).isEqualTo((long) threads * perThread);
+            assertThat(buffer.drain()).isEmpty();
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static boolean allDone(Future<?>[] futures) {
+        for (Future<?> future : futures) {
+            if (!future.isDone()) return false;
+        }
+        return true;
+    }
+
+    private static long sum(Map<Long, Long> deltas) {
+        return deltas.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
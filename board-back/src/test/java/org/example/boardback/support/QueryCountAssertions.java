@@ -0,0 +1,50 @@
+package org.example.boardback.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유스케이스(요청) 단위 SQL 실행 횟수 검증
+ * - Hibernate Statistics 의 prepared statement 수로 계산 → action 이 maxStatements 를 넘게 실행하면 테스트 실패
+ * - Statistics 는 SessionFactory 전역 값이므로 같은 컨텍스트를 공유하는 테스트를 병렬로 돌리지 않을 것
+ *
+ *   QueryCountAssertions queries = QueryCountAssertions.of(entityManagerFactory);
+ *   List<BoardFile> files = queries.atMost(1, () -> boardFileRepository.findByBoardIdOrderByDisplayOrderAsc(boardId));
+ */
+public final class QueryCountAssertions {
+
+    private final Statistics statistics;
+
+    private QueryCountAssertions(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public static QueryCountAssertions of(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        return new QueryCountAssertions(statistics);
+    }
+
+    public <T> T atMost(int maxStatements, Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+
+        long executed = statistics.getPrepareStatementCount();
+        assertThat(executed)
+                .as("SQL 실행 횟수 (최대 %d, 실행된 쿼리: %s)", maxStatements, String.join(" | ", statistics.getQueries()))
+                .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+
+    public void atMost(int maxStatements, Runnable action) {
+        atMost(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
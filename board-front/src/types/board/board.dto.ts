@@ -20,6 +20,7 @@ export interface BoardUpdateRequest {
   categoryId?: number;
   deleteFileIds?: number[];
   addFileIds?: number[];
+  version: number; // 수정 폼을 불러올 때 받은 BoardResponse.version (다르면 409 C008)
 }
 
 // 게시글 요약 DTO
@@ -39,6 +40,7 @@ export interface BoardResponse {
   boardId: number;
   title: string;
   content: string;
+  contentHtml: string; // 저장 시 생성된 렌더링 HTML (이스케이프 완료)
   categoryId?: number;
   writerId: number;
   writerNickname: string;
@@ -47,6 +49,7 @@ export interface BoardResponse {
   pinned: boolean;
   createdAt: string;
   updatedAt: string;
+  version: number; // 낙관적 락 버전
   files: BoardFileListDto[];
 }
 
@@ -60,8 +63,9 @@ export interface BoardSearchRequest {
 // 페이징 결과
 export interface BoardPageDto {
   items: BoardSummaryDto[];
-  totalElements: number;
-  totalPages: number;
+  totalElements?: number; // 커서 모드에서는 생략
+  totalPages?: number;    // 커서 모드에서는 생략
+  nextCursor?: string;    // 커서 모드: 다음 페이지 커서 (마지막 페이지면 없음)
 }
 
 // 게시글 리스트 응답
@@ -85,6 +89,7 @@ export interface BoardDraftRequest {
   content?: string;
   categoryId?: number;
   fileIds?: number[];
+  version?: number; // 수정 시 필수: 마지막으로 받은 응답의 version
 }
 
 // 임시 저장(DRAFT) 조회 응답
@@ -14,6 +14,8 @@ DROP TABLE IF EXISTS file_infos;
 DROP TABLE IF EXISTS comments;
 DROP TABLE IF EXISTS board_likes;
 DROP TABLE IF EXISTS board_drafts;
+DROP TABLE IF EXISTS board_category_stats;
+DROP TABLE IF EXISTS board_contents;
 DROP TABLE IF EXISTS boards;
 DROP TABLE IF EXISTS board_categories;
 
@@ -198,10 +200,14 @@ CREATE TABLE boards (
 	id BIGINT AUTO_INCREMENT PRIMARY KEY,
     
     title VARCHAR(150) NOT NULL COMMENT '글 제목',
-    content LONGTEXT NOT NULL COMMENT '글 제목',
+    excerpt VARCHAR(100) NOT NULL DEFAULT '' COMMENT '본문 미리보기 (목록용 일반 텍스트, 작성/수정 시 생성)',
     
     view_count BIGINT NOT NULL DEFAULT 0 COMMENT '조회수',
+    like_count INT NOT NULL DEFAULT 0 COMMENT '좋아요 수 (board_likes 비정규화 카운터)',
+    comment_count INT NOT NULL DEFAULT 0 COMMENT '댓글 수 (comments 비정규화 카운터)',
     is_pinned BOOLEAN NOT NULL DEFAULT FALSE COMMENT '상단 고정 여부',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전 (JPA @Version, 수정 / 고정 변경 시 증가)',
+    deleted_at DATETIME(6) NULL COMMENT '삭제 시각 (soft delete, BoardPurgeScheduler 가 연관 데이터와 함께 정리)',
     
     user_id BIGINT NOT NULL COMMENT '작성자',
     category_id BIGINT NOT NULL COMMENT '카테고리 ID',
@@ -212,6 +218,18 @@ CREATE TABLE boards (
     INDEX `idx_boards_created_at` (created_at),
     INDEX `idx_boards_updated_at` (updated_at),
     
+    # 카테고리별 / 작성자별 목록: 동등 조건 + (created_at, id) 역순 정렬을 인덱스 순서 그대로 읽음 (filesort X)
+    INDEX `idx_boards_category_created_at` (category_id, created_at, id),
+    INDEX `idx_boards_user_created_at` (user_id, created_at, id),
+    # 고정 게시글 목록 (PinnedBoardSnapshot 주기적 재조회)
+    INDEX `idx_boards_pinned_created_at` (is_pinned, created_at, id),
+    # 삭제된 글 정리 대상 조회 (대부분 NULL → 삭제 표시된 행만 범위 조회)
+    INDEX `idx_boards_deleted_at` (deleted_at),
+    
+    # 전문 검색(app.board.search.engine=fulltext)용 ngram 인덱스 (ngram_token_size 기본값 2 = bigram)
+    # : 제목 (본문은 board_contents.ft_board_contents_content)
+    FULLTEXT INDEX `ft_boards_title` (title) WITH PARSER ngram,
+    
     CONSTRAINT `fk_board_user` FOREIGN KEY (user_id) REFERENCES users(id),
     CONSTRAINT `fk_board_category` FOREIGN KEY (category_id) REFERENCES board_categories(id)
 )
@@ -219,6 +237,36 @@ CREATE TABLE boards (
     DEFAULT CHARSET = utf8mb4
     COLLATE = utf8mb4_unicode_ci
     COMMENT = '게시글';
+
+# === BOARD_CONTENTS (게시글 본문) === #
+# : LONGTEXT 를 boards 행에서 분리 → 목록 조회 / 조회수·좋아요 카운터 UPDATE / 고정 처리가 작은 행만 읽고 잠금
+CREATE TABLE board_contents (
+	board_id BIGINT PRIMARY KEY,
+    content LONGTEXT NOT NULL COMMENT '글 본문',
+    rendered_html LONGTEXT NULL COMMENT '렌더링 HTML (작성/수정 시 생성, NULL 이면 백필 대상)',
+    
+    FULLTEXT INDEX `ft_board_contents_content` (content) WITH PARSER ngram,
+    
+    CONSTRAINT `fk_board_contents_board` FOREIGN KEY (board_id) REFERENCES boards(id) ON DELETE CASCADE
+)
+	ENGINE=InnoDB
+    DEFAULT CHARSET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci
+    COMMENT = '게시글 본문';
+
+# === BOARD_CATEGORY_STATS (카테고리별 게시글 수 - 비정규화 카운터) === #
+CREATE TABLE board_category_stats (
+	category_id BIGINT PRIMARY KEY,
+    board_count BIGINT NOT NULL DEFAULT 0 COMMENT '카테고리 게시글 수 (작성/삭제/카테고리 변경 시 증감, 주기적 보정)',
+    
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    
+    CONSTRAINT `fk_board_category_stats_category` FOREIGN KEY (category_id) REFERENCES board_categories(id) ON DELETE CASCADE
+)
+	ENGINE=InnoDB
+    DEFAULT CHARSET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci
+    COMMENT = '카테고리별 게시글 수';
     
 # === BOARD_FILES (게시글 파일 매핑) === #
 CREATE TABLE board_files (
@@ -286,6 +334,7 @@ CREATE TABLE board_drafts (
     
     title VARCHAR(150) NULL COMMENT '임시 제목',
     content LONGTEXT NULL COMMENT '임시 내용',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전 (JPA @Version)',
     
     user_id BIGINT NOT NULL,   
     
@@ -15,6 +15,8 @@ DROP TABLE IF EXISTS comments;
 DROP TABLE IF EXISTS board_likes;
 DROP TABLE IF EXISTS board_drafts;
 DROP TABLE IF EXISTS board_files;
+DROP TABLE IF EXISTS board_category_stats;
+DROP TABLE IF EXISTS board_contents;
 DROP TABLE IF EXISTS boards;
 DROP TABLE IF EXISTS board_categories;
 
@@ -173,6 +175,8 @@ CREATE TABLE boards (
     title VARCHAR(150) NOT NULL,
     content LONGTEXT NOT NULL,
     view_count BIGINT NOT NULL DEFAULT 0,
+    like_count INT NOT NULL DEFAULT 0,
+    comment_count INT NOT NULL DEFAULT 0,
     is_pinned BOOLEAN NOT NULL DEFAULT FALSE,
     user_id BIGINT NOT NULL,
     category_id BIGINT NOT NULL,
@@ -180,6 +184,14 @@ CREATE TABLE boards (
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     INDEX `idx_boards_created_at` (created_at),
     INDEX `idx_boards_updated_at` (updated_at),
+    INDEX `idx_boards_category_created_at` (category_id, created_at, id),
+    INDEX `idx_boards_user_created_at` (user_id, created_at, id),
+    INDEX `idx_boards_pinned_created_at` (is_pinned, created_at, id),
+    
+    # 전문 검색(app.board.search.engine=fulltext)용 ngram 인덱스 (ngram_token_size 기본값 2 = bigram)
+    # : 제목+본문 / 제목 단독 (MATCH 컬럼 목록이 인덱스와 정확히 일치해야 함)
+    FULLTEXT INDEX `ft_boards_title_content` (title, content) WITH PARSER ngram,
+    FULLTEXT INDEX `ft_boards_title` (title) WITH PARSER ngram,
     CONSTRAINT `fk_board_user` FOREIGN KEY (user_id) REFERENCES users(id),
     CONSTRAINT `fk_board_category` FOREIGN KEY (category_id) REFERENCES board_categories(id)
 )
@@ -203,6 +215,42 @@ VALUES
 ('유머2', '하하하', 30, FALSE, 14, 4, NOW(), NOW()),
 ('스프링 정보', 'Bean Scope 정리', 10, FALSE, 15, 8, NOW(), NOW());
 
+# === 본문 분리 마이그레이션 (boards.content → board_contents) === #
+# : 위 boards 는 분리 이전 구조 그대로 생성 / 적재 → 기존 데이터가 있는 DB 에도 아래 구문만 실행하면 동일하게 이전됨
+# 1) 목록용 미리보기 컬럼 추가
+ALTER TABLE boards ADD COLUMN excerpt VARCHAR(100) NOT NULL DEFAULT '' AFTER title;
+
+# 2) 본문 테이블 생성 (PK = boards.id)
+CREATE TABLE board_contents (
+	board_id BIGINT PRIMARY KEY,
+    content LONGTEXT NOT NULL,
+    rendered_html LONGTEXT NULL,
+    FULLTEXT INDEX `ft_board_contents_content` (content) WITH PARSER ngram,
+    CONSTRAINT `fk_board_contents_board` FOREIGN KEY (board_id) REFERENCES boards(id) ON DELETE CASCADE
+)
+ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+# 3) 본문 복사 + 미리보기 채우기
+#    : rendered_html 은 NULL 로 두면 애플리케이션의 BoardContentBackfillScheduler 가
+#      일반 텍스트 미리보기와 함께 청크 단위로 다시 생성
+INSERT INTO board_contents (board_id, content)
+SELECT id, content FROM boards;
+
+UPDATE boards SET excerpt = SUBSTRING(content, 1, 100);
+
+# 4) boards 에서 본문 컬럼 / (제목+본문) FULLTEXT 인덱스 제거
+ALTER TABLE boards
+    DROP INDEX `ft_boards_title_content`,
+    DROP COLUMN content;
+
+# === 낙관적 락 버전 컬럼 (JPA @Version) === #
+ALTER TABLE boards ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER is_pinned;
+
+# === 삭제 표시 컬럼 (soft delete) === #
+ALTER TABLE boards
+    ADD COLUMN deleted_at DATETIME(6) NULL AFTER version,
+    ADD INDEX `idx_boards_deleted_at` (deleted_at);
+
 # =====================
 # 6️⃣ 게시글 파일 매핑
 # =====================
@@ -281,10 +329,29 @@ INSERT INTO board_likes (board_id, user_id, created_at, updated_at) VALUES
 (13, 15, NOW(), NOW()),
 (14, 1, NOW(), NOW());
 
+# 좋아요 / 댓글 비정규화 카운터 초기화
+UPDATE boards b
+SET b.like_count = (SELECT COUNT(*) FROM board_likes l WHERE l.board_id = b.id),
+    b.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.board_id = b.id);
+
+CREATE TABLE board_category_stats (
+	category_id BIGINT PRIMARY KEY,
+    board_count BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    CONSTRAINT `fk_board_category_stats_category` FOREIGN KEY (category_id) REFERENCES board_categories(id) ON DELETE CASCADE
+)
+ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+# 카테고리별 게시글 수 초기화
+INSERT INTO board_category_stats (category_id, board_count)
+SELECT c.id, (SELECT COUNT(*) FROM boards b WHERE b.category_id = c.id)
+FROM board_categories c;
+
 CREATE TABLE board_drafts (
 	id BIGINT AUTO_INCREMENT PRIMARY KEY,
     title VARCHAR(150),
     content LONGTEXT,
+    version BIGINT NOT NULL DEFAULT 0,
     user_id BIGINT NOT NULL,
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),